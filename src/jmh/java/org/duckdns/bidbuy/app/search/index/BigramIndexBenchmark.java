@@ -0,0 +1,82 @@
+package org.duckdns.bidbuy.app.search.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 게시글 100만 건에서 키워드 검색 후보를 구하는 비용
+// likeScan: '%검색어%' 전체 스캔과 같은 일 (모든 게시글의 title/addr1/addr2 에 contains)
+// bigramIndex: BigramArticleSearchIndex 의 후보 id 교집합
+// DB 왕복은 빠져 있으므로 전체 스캔 쪽은 실제 MySQL 보다 유리하게 잡힌 값이다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class BigramIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "아이폰", "갤럭시", "맥북", "아이패드", "에어팟", "자전거", "헬스장", "이용권", "캠핑", "텐트",
+            "의자", "책상", "모니터", "키보드", "마우스", "냉장고", "세탁기", "유모차", "카시트", "운동화",
+            "패딩", "코트", "가방", "지갑", "시계", "카메라", "렌즈", "닌텐도", "스위치", "플스"
+    };
+    private static final String[] MODIFIERS = {"새상품", "미개봉", "중고", "급처", "정품", "풀박스", "리퍼", "한정판"};
+    private static final String[] CITIES = {"서울특별시", "경기도", "부산광역시", "인천광역시", "대구광역시"};
+    private static final String[] DISTRICTS = {"강남구", "마포구", "송파구", "수원시", "해운대구", "연수구", "수성구", "관악구"};
+
+    @Param({"1000000"})
+    private int articles;
+
+    @Param({"헬스장 이용권", "미개봉 아이폰", "해운대구"})
+    private String content;
+
+    private String[] titles;
+    private String[] addr1s;
+    private String[] addr2s;
+    private BigramArticleSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        titles = new String[articles];
+        addr1s = new String[articles];
+        addr2s = new String[articles];
+        index = new BigramArticleSearchIndex();
+        for (int i = 0; i < articles; i++) {
+            titles[i] = MODIFIERS[random.nextInt(MODIFIERS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + WORDS[random.nextInt(WORDS.length)];
+            addr1s[i] = CITIES[random.nextInt(CITIES.length)];
+            addr2s[i] = DISTRICTS[random.nextInt(DISTRICTS.length)];
+            index.index((long) i, titles[i], addr1s[i], addr2s[i]);
+        }
+        index.markReady();
+    }
+
+    @Benchmark
+    public void likeScan(Blackhole blackhole) {
+        int matches = 0;
+        for (int i = 0; i < articles; i++) {
+            if (titles[i].contains(content) || addr1s[i].contains(content) || addr2s[i].contains(content)) {
+                matches++;
+            }
+        }
+        blackhole.consume(matches);
+    }
+
+    @Benchmark
+    public void bigramIndex(Blackhole blackhole) {
+        Set<Long> candidates = index.findCandidateIds(content);
+        blackhole.consume(candidates);
+    }
+}
@@ -0,0 +1,63 @@
+package org.duckdns.bidbuy.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// JWTFilter 한 요청당 토큰 처리 비용
+// legacy: 예전 필터처럼 isExpired/getCategory/getUserId/getUsername/getRole 마다 파서를 새로 만들고 서명을 다시 검증 (5회)
+// singleParse: 미리 만든 파서로 한 번만 검증하고 JWTClaims 에서 모두 읽음
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-32-bytes-long";
+
+    private SecretKey secretKey;
+    private JWTUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtUtil = new JWTUtil(SECRET);
+        token = jwtUtil.createJwt("access", 1L, "benchmark-user", "USER", 600_000L);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(legacyParse().getExpiration().before(new Date()));
+        blackhole.consume(legacyParse().get("category", String.class));
+        blackhole.consume(legacyParse().get("userid", Long.class));
+        blackhole.consume(legacyParse().get("username", String.class));
+        blackhole.consume(legacyParse().get("role", String.class));
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        JWTClaims claims = jwtUtil.parseClaims(token);
+        blackhole.consume(claims.isExpired());
+        blackhole.consume(claims.getCategory());
+        blackhole.consume(claims.getUserId());
+        blackhole.consume(claims.getUsername());
+        blackhole.consume(claims.getRole());
+    }
+
+    private Claims legacyParse() {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+}
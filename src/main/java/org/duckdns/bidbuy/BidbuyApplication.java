@@ -2,8 +2,10 @@ package org.duckdns.bidbuy;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BidbuyApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,194 @@
+package org.duckdns.bidbuy.app.article.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.event.ArticleChangedEvent;
+import org.duckdns.bidbuy.app.article.event.ArticleSnapshot;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.offer.repository.OfferRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// 게시글 상세 read model 캐시 (로컬 -> 선택적 공유 계층 -> DB)
+// 게시글 수정/삭제/거래 상태 변경(ArticleChangedEvent), 제안 등록/취소, 찜, 프로필 변경 시 커밋 후 비운다
+// 다른 서버의 로컬 계층은 TTL 로만 정리되므로 TTL 을 짧게 둔다
+@Slf4j
+@Component
+public class ArticleDetailCache {
+
+    private final ArticleRepository articleRepository;
+    private final OfferRepository offerRepository;
+    private final ArticleDetailSharedCache sharedCache;  // 없으면 null
+    private final long ttlMs;
+    private final int maxSize;
+
+    private final Map<Long, CachedDetail> cache = new ConcurrentHashMap<>();
+
+    // 게시글 id 별 무효화 버전 (id 해시로 나눈 칸), 조회 중에 그 게시글이 무효화됐으면 읽은 값을 넣지 않음 (오래된 값이 다시 들어가는 경쟁 방지)
+    // 다른 게시글의 무효화는 같은 칸에 걸린 경우에만 영향을 줌 (칸 수만큼 나뉘므로 인기 게시글의 캐시 적재가 막히지 않음)
+    private static final int VERSION_STRIPES = 4096;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    // 유저 단위 무효화 (프로필 변경), 어떤 게시글이 그 유저를 담고 있을지 조회 중에는 알 수 없으므로 전체 버전으로 둠 (드묾)
+    private final AtomicLong userInvalidations = new AtomicLong();
+
+    public ArticleDetailCache(ArticleRepository articleRepository,
+                              OfferRepository offerRepository,
+                              ObjectProvider<ArticleDetailSharedCache> sharedCache,
+                              @Value("${article.detail-cache.ttl-ms:30000}") long ttlMs,
+                              @Value("${article.detail-cache.max-size:5000}") int maxSize) {
+        this.articleRepository = articleRepository;
+        this.offerRepository = offerRepository;
+        this.sharedCache = sharedCache.getIfAvailable();
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    public ArticleDetailSnapshot get(Long articleId, Supplier<ArticleDetailSnapshot> loader) {
+        long now = System.currentTimeMillis();
+        CachedDetail cached = cache.get(articleId);
+        if (cached != null && !cached.isExpired(now)) {
+            return cached.snapshot;
+        }
+
+        int stripe = stripe(articleId);
+        long version = versions.get(stripe);
+        long userVersion = userInvalidations.get();
+        ArticleDetailSnapshot snapshot = sharedCache == null ? null : sharedCache.get(articleId);
+        boolean fromDb = snapshot == null;
+        if (fromDb) {
+            snapshot = loader.get();
+        }
+
+        if (versions.get(stripe) == version && userInvalidations.get() == userVersion) {
+            if (fromDb && sharedCache != null) {
+                sharedCache.put(articleId, snapshot);
+            }
+            putLocal(articleId, snapshot, now);
+        }
+        return snapshot;
+    }
+
+    // 게시글 수정/삭제, 제안 수락/취소, 판매 완료
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        ArticleSnapshot snapshot = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        if (snapshot != null) {
+            evict(snapshot.getId());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후, 아니면 바로 비움
+    public void evictAfterCommit(Long articleId) {
+        evictAfterCommit(List.of(articleId));
+    }
+
+    public void evictAfterCommit(Collection<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(articleIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(ArticleDetailCache.this::evict);
+                }
+            });
+        } else {
+            ids.forEach(this::evict);
+        }
+    }
+
+    // 작성자 카드나 제안자 이름이 바뀐 유저, 로컬 계층에서는 그 유저가 들어 있는 상세를 모두 비움
+    // 공유 계층은 훑을 수 없으므로 유저가 쓰거나 제안한 게시글 id 를 DB 에서 구해서 비운다
+    public void evictUserAfterCommit(Long userId) {
+        List<Long> sharedIds = new ArrayList<>();
+        if (sharedCache != null) {
+            sharedIds.addAll(articleRepository.findIdsByWriterId(userId));
+            sharedIds.addAll(offerRepository.findArticleIdsByOffererId(userId));
+        }
+        Runnable evictUser = () -> {
+            userInvalidations.incrementAndGet();
+            cache.values().removeIf(cached -> cached.snapshot.references(userId));
+            sharedIds.forEach(this::evict);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUser.run();
+                }
+            });
+        } else {
+            evictUser.run();
+        }
+    }
+
+    public void evict(Long articleId) {
+        versions.incrementAndGet(stripe(articleId));
+        cache.remove(articleId);
+        if (sharedCache != null) {
+            try {
+                sharedCache.evict(articleId);
+            } catch (RuntimeException e) {
+                // 공유 계층 장애는 TTL 에 맡기고 요청은 실패시키지 않음
+                log.warn("게시글 상세 공유 캐시 무효화 실패: articleId={}", articleId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${article.detail-cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.isExpired(now));
+    }
+
+    private int stripe(Long articleId) {
+        return (Long.hashCode(articleId) & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private void putLocal(Long articleId, ArticleDetailSnapshot snapshot, long now) {
+        if (cache.size() >= maxSize) {
+            evictExpired();
+        }
+        if (cache.size() >= maxSize) {
+            // 그래도 가득 차 있으면 10% 정도를 비워서 매 요청마다 정리하지 않게 함
+            Iterator<CachedDetail> iterator = cache.values().iterator();
+            while (cache.size() > maxSize - maxSize / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        cache.put(articleId, new CachedDetail(snapshot, now + ttlMs));
+    }
+
+    private static class CachedDetail {
+        private final ArticleDetailSnapshot snapshot;
+        private final long expiresAt;
+
+        private CachedDetail(ArticleDetailSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.duckdns.bidbuy.app.article.cache;
+
+// 게시글 상세 캐시의 공유 계층 (Redis 등), 빈이 있을 때만 로컬 캐시 다음 단계로 사용
+// 여러 서버가 같은 저장소를 보므로 무효화는 이쪽으로도 전달된다
+public interface ArticleDetailSharedCache {
+
+    // 없으면 null
+    ArticleDetailSnapshot get(Long articleId);
+
+    void put(Long articleId, ArticleDetailSnapshot snapshot);
+
+    void evict(Long articleId);
+}
@@ -0,0 +1,75 @@
+package org.duckdns.bidbuy.app.article.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.duckdns.bidbuy.app.article.domain.Category;
+import org.duckdns.bidbuy.app.article.domain.TradeMethod;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.dto.ArticleDetailResponse;
+import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시글 상세에서 보는 사람과 상관없는 부분 (게시글, 이미지, 작성자 카드, 가격순 제안 목록)
+// 여러 요청이 같은 인스턴스를 공유하므로 만든 뒤에는 바꾸지 않는다
+@Getter
+@Builder
+@AllArgsConstructor
+public class ArticleDetailSnapshot {
+
+    private Long id;
+    private String title;
+    private String content;
+    private Integer price;
+    private Integer quantity;
+    private String addr1;
+    private String addr2;
+    private LocalDateTime createdDate;
+    private Category category;
+    private TradeMethod tradeMethod;
+    private TradeStatus tradeStatus;
+    private Long writerId;
+    private String writerUsername;
+    private String writerProfileImageUrl;
+    private String thumbnailUrl;
+    private List<String> imageUrls;
+    private List<String> detailImageUrls;  // 상세 크기 파생 이미지, 준비 전이면 원본
+    private Long likeCount;
+    private List<OfferResponse> offers;
+
+    // 작성자나 제안자로 들어 있는 유저인지 (프로필이 바뀌면 이 게시글 상세도 비워야 함)
+    public boolean references(Long userId) {
+        if (userId.equals(writerId)) {
+            return true;
+        }
+        return offers.stream().anyMatch(offer -> userId.equals(offer.getOffererId()));
+    }
+
+    // 좋아요 여부만 요청마다 붙임
+    public ArticleDetailResponse toResponse(boolean liked) {
+        return new ArticleDetailResponse(
+                id,
+                title,
+                content,
+                price,
+                quantity,
+                addr1,
+                addr2,
+                createdDate,
+                category,
+                tradeMethod,
+                tradeStatus,
+                writerId,
+                writerUsername,
+                writerProfileImageUrl,
+                thumbnailUrl,
+                imageUrls.toArray(new String[0]),
+                detailImageUrls.toArray(new String[0]),
+                liked,
+                likeCount,
+                offers
+        );
+    }
+}
@@ -11,11 +11,11 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
 import java.net.URI;
-import java.util.List;
 
 
 @RestController
@@ -70,14 +70,25 @@ public class ArticleController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "전체 게시글 조회 API", description = "전체 게시글 정보 조회")
+    @Operation(summary = "전체 게시글 조회 API", description = "전체 게시글 정보 조회, 최신순 커서 페이징 (nextCursor 로 다음 페이지 요청)")
     @GetMapping(value = "/")
-    public ResponseEntity<ApiResponse<List<ArticleSummaryResponse>>> getAllArticles(){
-        List<ArticleSummaryResponse> articleSummaryResponses = articleService.getAllArticles();
-        ApiResponse<List<ArticleSummaryResponse>> response = new ApiResponse<>("200", "전체 게시글 조회 성공", articleSummaryResponses);
+    public ResponseEntity<ApiResponse<ArticleSummaryPageResponse>> getAllArticles(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false, defaultValue = "20") int size) {
+        ArticleSummaryPageResponse articleSummaryPageResponse = articleService.getAllArticles(cursor, size);
+        ApiResponse<ArticleSummaryPageResponse> response = new ApiResponse<>("200", "전체 게시글 조회 성공", articleSummaryPageResponse);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "전체 게시글 스트리밍 API", description = "전체 게시글을 NDJSON (한 줄에 게시글 하나) 으로 내려줌")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllArticles() {
+        StreamingResponseBody body = articleService::writeAllArticles;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "게시글 좋아요 API", description = "로그인한 사용자만 좋아요 가능")
     @PostMapping(value = "/{articleId}/like")
     public ResponseEntity<ApiResponse<String>> likeArticle(@PathVariable Long articleId) {
@@ -24,7 +24,10 @@ import static jakarta.persistence.FetchType.LAZY;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString(callSuper = true, exclude = {"productImages", "offers", "review", "likes"})
-@Table(name = "article")
+@Table(name = "article", indexes = {
+        @Index(name = "idx_article_region_status_created", columnList = "region_id, trade_status, created_date"),
+        @Index(name = "idx_article_writer_status_created", columnList = "writer_id, trade_status, created_date")
+})
 public class Article extends BaseEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -38,11 +41,27 @@ public class Article extends BaseEntity {
     private String content;
     private Integer price;
     private Integer quantity;
+
+    // 카운터는 증감 UPDATE 로만 바꿈 (찜 토글, 조회수 flush), 엔티티 저장은 읽어 둔 값으로 덮어쓰지 않음
+    @Column(updatable = false)
     private Long likeCount;
+    @Column(updatable = false)
     private Long viewCount;
+
     private String addr1;
     private String addr2;
 
+    // addr1/addr2 를 정규화한 지역 id (내 주변 검색용)
+    @Column(name = "region_id")
+    private Long regionId;
+
+    // 대표 이미지 썸네일 (목록 조회에서 product_image 를 JOIN 하지 않도록 복사해 둠)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    // 대표 이미지 id (검색 결과의 imageId), thumbnail_url 과 같이 바뀜
+    @Column(name = "cover_image_id")
+    private Long coverImageId;
 
     @Enumerated(EnumType.STRING)
     private TradeMethod tradeMethod;
@@ -78,15 +97,12 @@ public class Article extends BaseEntity {
         this.tradeStatus = tradeStatus;
     }
 
-    public void plusLikeCount() {
-        this.likeCount++;
-    }
-
-    public void minusLikeCount(){
-        this.likeCount--;
+    public void updateRegion(Long regionId) {
+        this.regionId = regionId;
     }
 
-    public void plusViewCount() {
-        this.viewCount++;
+    public void updateCover(String thumbnailUrl, Long coverImageId) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.coverImageId = coverImageId;
     }
 }
@@ -0,0 +1,57 @@
+package org.duckdns.bidbuy.app.article.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.duckdns.bidbuy.global.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+// 저장소에서 지울 사진 (outbox), 게시글/이미지 삭제와 같은 트랜잭션에서 기록하고 ImageDeleteOutboxService 가 비운다
+// 파일명 하나가 원본, 썸네일, 파생 이미지 객체를 모두 가리킴
+// deletingUntil 은 워커가 객체를 지우는 중이라는 표시 (리스), 그동안 같은 사진을 올리려는 요청은 기다린다
+@Entity
+@SuperBuilder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(callSuper = true)
+@Table(name = "image_delete_outbox", indexes = {
+        @Index(name = "idx_image_delete_outbox_next_attempt", columnList = "next_attempt_at"),
+        @Index(name = "idx_image_delete_outbox_file_name", columnList = "file_name")
+})
+public class ImageDeleteTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_delete_id")
+    private Long id;
+
+    private String fileName;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime deletingUntil;
+
+    public static ImageDeleteTask of(String fileName) {
+        return ImageDeleteTask.builder()
+                .fileName(fileName)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 리스가 끝나기 전에는 다른 워커가 집지 않음 (워커가 중간에 죽으면 리스가 끝난 뒤 다시 처리)
+    public void startDeleting(LocalDateTime until) {
+        this.deletingUntil = until;
+        this.nextAttemptAt = until;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.deletingUntil = null;
+    }
+}
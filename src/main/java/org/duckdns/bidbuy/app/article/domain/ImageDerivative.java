@@ -0,0 +1,26 @@
+package org.duckdns.bidbuy.app.article.domain;
+
+// 원본에서 만드는 크기별 파생 이미지 (JPEG), 긴 변을 maxSize 에 맞추고 원본보다 크게 늘리지 않는다
+// 객체 키는 원본 파일명 앞에 prefix 를 붙임 (썸네일의 s_ 와 같은 방식)
+public enum ImageDerivative {
+
+    CARD("c_", 300),      // 목록 카드, 게시글 대표 썸네일
+    DETAIL("d_", 1080),   // 상세 화면
+    AVATAR("a_", 96);     // 채팅 아바타
+
+    private final String prefix;
+    private final int maxSize;
+
+    ImageDerivative(String prefix, int maxSize) {
+        this.prefix = prefix;
+        this.maxSize = maxSize;
+    }
+
+    public String fileName(String originalFileName) {
+        return prefix + originalFileName;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,40 @@
+package org.duckdns.bidbuy.app.article.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.duckdns.bidbuy.global.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+// 올리는 중인 게시글 사진 (내용 해시 파일명), 업로드 전에 따로 커밋하고 이미지 행을 저장하는 트랜잭션에서 지운다
+// 삭제 워커는 이 행이 있는 사진을 참조 중으로 보고 남김 (ImageDeleteOutboxService)
+@Entity
+@SuperBuilder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(callSuper = true)
+@Table(name = "image_upload_claim", indexes = {
+        @Index(name = "idx_image_upload_claim_file_name", columnList = "file_name")
+})
+public class ImageUploadClaim extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "image_upload_claim_id")
+    private Long id;
+
+    private String fileName;
+    private LocalDateTime claimedAt;
+
+    public static ImageUploadClaim of(String fileName) {
+        return ImageUploadClaim.builder()
+                .fileName(fileName)
+                .claimedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -18,7 +18,8 @@ import static jakarta.persistence.FetchType.LAZY;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString(callSuper = true)
-@Table(name = "like_article")
+@Table(name = "like_article",
+        uniqueConstraints = @UniqueConstraint(name = "uk_like_article_article_user", columnNames = {"article_id", "user_id"}))
 public class LikeArticle extends BaseEntity {
 
     @Id
@@ -16,7 +16,9 @@ import static jakarta.persistence.FetchType.LAZY;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString(callSuper = true)
-@Table(name = "product_image")
+@Table(name = "product_image", indexes = {
+        @Index(name = "idx_product_image_url", columnList = "image_url")
+})
 public class ProductImage extends BaseEntity {
 
     @Id
@@ -24,12 +26,27 @@ public class ProductImage extends BaseEntity {
     @Column(name = "product_image_id")
     private Long id;
 
-    private String imageUrl;
+    private String imageUrl;  // 게시글 이미지는 내용 해시 파일명이라 여러 행이 같은 값을 가질 수 있음
     private String thumbnailUrl;
 
+    // 파생 이미지 (ImageDerivativeService 가 업로드 후 백그라운드로 채움, 준비 전에는 null)
+    private String cardUrl;
+    private String detailUrl;
+    private String avatarUrl;
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "article_id")
     private Article article;
+
+    // 상세 화면용 이미지, 파생 이미지가 아직 없으면 원본
+    public String getDetailOrOriginalUrl() {
+        return detailUrl != null ? detailUrl : imageUrl;
+    }
+
+    // 대표 썸네일, 목록 카드 크기가 준비됐으면 그것을 씀
+    public String getCoverUrl() {
+        return cardUrl != null ? cardUrl : thumbnailUrl;
+    }
 }
 
 
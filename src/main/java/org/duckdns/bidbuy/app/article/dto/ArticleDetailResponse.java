@@ -32,6 +32,7 @@ public class ArticleDetailResponse {
     private String writerProfileImageUrl;
     private String thumbnailUrl;
     private String[] imageUrls;
+    private String[] detailImageUrls;  // 화면 표시용 (수정 요청에는 imageUrls 를 씀)
     private boolean liked;
     private Long likeCount;
 
@@ -0,0 +1,15 @@
+package org.duckdns.bidbuy.app.article.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ArticleSummaryPageResponse {
+
+    private List<ArticleSummaryResponse> articles;
+    private String nextCursor;  // 마지막 페이지면 null
+
+}
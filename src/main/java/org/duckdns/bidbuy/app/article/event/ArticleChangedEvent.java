@@ -0,0 +1,35 @@
+package org.duckdns.bidbuy.app.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 게시글 생성/수정/삭제 이벤트
+// 검색 인덱스 같은 메모리 구조는 @TransactionalEventListener(AFTER_COMMIT) 로 받아서 커밋된 변경만 반영한다
+@Getter
+@AllArgsConstructor
+public class ArticleChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Type type;
+    private ArticleSnapshot before;  // CREATED 인 경우 null
+    private ArticleSnapshot after;   // DELETED 인 경우 null
+
+    public static ArticleChangedEvent created(ArticleSnapshot after) {
+        return new ArticleChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static ArticleChangedEvent updated(ArticleSnapshot before, ArticleSnapshot after) {
+        return new ArticleChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static ArticleChangedEvent deleted(ArticleSnapshot before) {
+        return new ArticleChangedEvent(Type.DELETED, before, null);
+    }
+
+    public Long getArticleId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,38 @@
+package org.duckdns.bidbuy.app.article.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.duckdns.bidbuy.app.article.domain.Article;
+import org.duckdns.bidbuy.app.article.domain.Category;
+import org.duckdns.bidbuy.app.article.domain.TradeMethod;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+
+// 이벤트로 넘기는 게시글 값 복사본 (영속성 컨텍스트 밖에서 읽어도 안전하도록 엔티티 대신 사용)
+@Getter
+@AllArgsConstructor
+public class ArticleSnapshot {
+
+    private Long id;
+    private Long writerId;
+    private String title;
+    private String addr1;
+    private String addr2;
+    private Long regionId;
+    private Category category;
+    private TradeMethod tradeMethod;
+    private TradeStatus tradeStatus;
+
+    public static ArticleSnapshot from(Article article) {
+        return new ArticleSnapshot(
+                article.getId(),
+                article.getWriter() != null ? article.getWriter().getId() : null,
+                article.getTitle(),
+                article.getAddr1(),
+                article.getAddr2(),
+                article.getRegionId(),
+                article.getCategory(),
+                article.getTradeMethod(),
+                article.getTradeStatus()
+        );
+    }
+}
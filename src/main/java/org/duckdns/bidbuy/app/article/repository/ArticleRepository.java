@@ -1,253 +1,81 @@
 package org.duckdns.bidbuy.app.article.repository;
 
+import jakarta.persistence.QueryHint;
 import org.duckdns.bidbuy.app.article.domain.Article;
-import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.dto.ArticleSummaryResponse;
 import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
 import org.duckdns.bidbuy.app.user.dto.MyBuysResponse;
-import org.duckdns.bidbuy.app.user.dto.MySalesResponse;
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
     int countByWriter_Id(Long userId);
 
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus ,a.createdDate,pi.thumbnailUrl) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.createdDate DESC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatus(@Param("userId") Long userId, @Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus ,a.createdDate,pi.thumbnailUrl) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.price DESC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusOrderByPriceDESC(@Param("userId") Long userId, @Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus ,a.createdDate,pi.thumbnailUrl) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.price ASC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusOrderByPriceASC(@Param("userId") Long userId, @Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate ,pi.thumbnailUrl, FALSE) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.createdDate DESC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusUser(@Param("userId") Long userId, @Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate ,pi.thumbnailUrl, FALSE) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.price DESC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusUserOrderByPriceDESC(@Param("userId") Long userId, @Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate ,pi.thumbnailUrl, FALSE) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.price ASC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusUserOrderByPriceASC(@Param("userId") Long userId, @Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate ,pi.thumbnailUrl, CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :loggedInUserId " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.createdDate DESC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusUserLoggedIn(@Param("userId") Long userId, @Param("loggedInUserId") Long loggedInUserId,@Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate ,pi.thumbnailUrl, CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :loggedInUserId " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.price DESC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusUserLoggedInOrderByPriceDESC(@Param("userId") Long userId, @Param("loggedInUserId") Long loggedInUserId,@Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate ,pi.thumbnailUrl, CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :loggedInUserId " +
-            "WHERE a.writer.id = :userId AND a.tradeStatus = :tradeStatus AND pi.thumbnailUrl is not null " +
-            "ORDER BY a.price ASC")
-    Page<MySalesResponse> findByWriterIdAndTradeStatusUserLoggedInOrderByPriceASC(@Param("userId") Long userId, @Param("loggedInUserId") Long loggedInUserId,@Param("tradeStatus") TradeStatus tradeStatus, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate, pi.thumbnailUrl) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "LEFT JOIN a.likes la " +
-            "WHERE pi.thumbnailUrl IS NOT NULL " +
-            "  AND la.user.id = :userId " +
-            "ORDER BY a.createdDate DESC")
-    Page<MySalesResponse> findArticlesByUserIdWithLikes(@Param("userId") Long userId,Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate, pi.thumbnailUrl) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "LEFT JOIN a.likes la " +
-            "WHERE pi.thumbnailUrl IS NOT NULL " +
-            "  AND la.user.id = :userId " +
-            "ORDER BY a.price DESC")
-    Page<MySalesResponse> findArticlesByUserIdWithLikesOrderByPriceDesc(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(a.id, a.title, a.price, a.addr1, a.addr2, a.tradeStatus, a.createdDate, pi.thumbnailUrl) " +
-            "FROM Article a " +
-            "LEFT JOIN a.productImages pi " +
-            "LEFT JOIN a.likes la " +
-            "WHERE pi.thumbnailUrl IS NOT NULL " +
-            "  AND la.user.id = :userId " +
-            "ORDER BY a.price ASC")
-    Page<MySalesResponse> findArticlesByUserIdWithLikesOrderByPriceAsc(@Param("userId") Long userId, Pageable pageable);
-
-
-    @Query("""
-        SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(
-            a.id,
-            a.title,
-            a.price,
-            a.addr1,
-            a.addr2,
-            a.tradeStatus,
-            a.createdDate,
-            pi.thumbnailUrl,
-            CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END)
-        FROM Article a
-        JOIN a.productImages pi
-        LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :userId
-        WHERE a.id IN (SELECT o.article.id FROM Offer o WHERE o.offerer.id = :userId)
-            AND pi.thumbnailUrl IS NOT NULL
-        ORDER BY a.createdDate DESC
-    """)
-    Page<MySalesResponse> getOfferedArticlesByUserId(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("""
-        SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(
-            a.id,
-            a.title,
-            a.price,
-            a.addr1,
-            a.addr2,
-            a.tradeStatus,
-            a.createdDate,
-            pi.thumbnailUrl,
-            CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END)
-        FROM Article a
-        JOIN a.productImages pi
-        LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :userId
-        WHERE a.id IN (SELECT o.article.id FROM Offer o WHERE o.offerer.id = :userId)
-            AND pi.thumbnailUrl IS NOT NULL
-        ORDER BY a.price DESC
-    """)
-    Page<MySalesResponse> getOfferedArticlesByUserIdOrderByPriceDESC(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("""
-        SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(
-            a.id,
-            a.title,
-            a.price,
-            a.addr1,
-            a.addr2,
-            a.tradeStatus,
-            a.createdDate,
-            pi.thumbnailUrl,
-            CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END)
-        FROM Article a
-        JOIN a.productImages pi
-        LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :userId
-        WHERE a.id IN (SELECT o.article.id FROM Offer o WHERE o.offerer.id = :userId)
-            AND pi.thumbnailUrl IS NOT NULL
-        ORDER BY a.price ASC
-    """)
-    Page<MySalesResponse> getOfferedArticlesByUserIdOrderByPriceASC(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("""
-    SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(
-        a.id,
-        a.title,
-        a.price,
-        a.addr1,
-        a.addr2,
-        a.tradeStatus,
-        a.createdDate,
-        pi.thumbnailUrl,
-        CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END,
-        CASE WHEN r.id IS NOT NULL THEN TRUE ELSE FALSE END)
-    FROM Article a
-    JOIN a.productImages pi
-    LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :userId
-    LEFT JOIN Review r ON r.article.id = a.id
-       WHERE a.id IN (
-            SELECT DISTINCT o.article.id
-            FROM Offer o
-            WHERE o.offerer.id = :userId
-        )
-    AND pi.thumbnailUrl IS NOT NULL
-     AND a.tradeStatus = 'SOLD_OUT'
-    ORDER BY a.createdDate DESC
-""")
-    Page<MySalesResponse> getOfferedArticlesByUserIdAndIsSelected(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("""
-    SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(
-        a.id,
-        a.title,
-        a.price,
-        a.addr1,
-        a.addr2,
-        a.tradeStatus,
-        a.createdDate,
-        pi.thumbnailUrl,
-        CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END,
-        CASE WHEN r.id IS NOT NULL THEN TRUE ELSE FALSE END)
-    FROM Article a
-    JOIN a.productImages pi
-    LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :userId
-    LEFT JOIN Review r ON r.article.id = a.id
-    WHERE a.id IN (
-        SELECT o.article.id
-        FROM Offer o
-        WHERE o.offerer.id = :userId AND o.isSelected = TRUE
-    )
-    AND pi.thumbnailUrl IS NOT NULL
-    AND a.tradeStatus = 'SOLD_OUT'
-    ORDER BY a.price DESC
-""")
-    Page<MySalesResponse> getOfferedArticlesByUserIdAndIsSelectedOrderByPriceDESC(@Param("userId") Long userId, Pageable pageable);
-
-    @Query("""
-    SELECT new org.duckdns.bidbuy.app.user.dto.MySalesResponse(
-        a.id,
-        a.title,
-        a.price,
-        a.addr1,
-        a.addr2,
-        a.tradeStatus,
-        a.createdDate,
-        pi.thumbnailUrl,
-        CASE WHEN la.id IS NOT NULL THEN TRUE ELSE FALSE END,
-        CASE WHEN r.id IS NOT NULL THEN TRUE ELSE FALSE END)
-    FROM Article a
-    JOIN a.productImages pi
-    LEFT JOIN LikeArticle la ON a.id = la.article.id AND la.user.id = :userId
-    LEFT JOIN Review r ON r.article.id = a.id
-    WHERE a.id IN (
-        SELECT o.article.id
-        FROM Offer o
-        WHERE o.offerer.id = :userId AND o.isSelected = TRUE
-    )
-    AND pi.thumbnailUrl IS NOT NULL
-    AND a.tradeStatus = 'SOLD_OUT'
-    ORDER BY a.price ASC
-""")
-    Page<MySalesResponse> getOfferedArticlesByUserIdAndIsSelectedOrderByPriceASC(@Param("userId") Long userId, Pageable pageable);
+    @Query("SELECT a.writer.id FROM Article a WHERE a.id = :articleId")
+    Optional<Long> findWriterIdById(@Param("articleId") Long articleId);
+
+    @Query("SELECT a.id FROM Article a WHERE a.writer.id = :writerId")
+    List<Long> findIdsByWriterId(@Param("writerId") Long writerId);
+
+    // 찜 개수는 읽고 쓰지 않고 SQL 로 바로 증감
+    @Modifying
+    @Query("UPDATE Article a SET a.likeCount = COALESCE(a.likeCount, 0) + :delta WHERE a.id = :articleId")
+    int addLikeCount(@Param("articleId") Long articleId, @Param("delta") Long delta);
+
+    // region_id 백필용
+    @Query("SELECT DISTINCT a.addr1, a.addr2 FROM Article a WHERE a.regionId IS NULL AND a.addr1 IS NOT NULL AND a.addr2 IS NOT NULL")
+    List<Object[]> findUnresolvedAddresses();
+
+    @Modifying
+    @Query("UPDATE Article a SET a.regionId = :regionId WHERE a.regionId IS NULL AND a.addr1 = :addr1 AND a.addr2 = :addr2")
+    int updateRegionId(@Param("regionId") Long regionId, @Param("addr1") String addr1, @Param("addr2") String addr2);
+
+    @Modifying
+    @Query("UPDATE Article a SET a.thumbnailUrl = :thumbnailUrl, a.coverImageId = :coverImageId WHERE a.id = :articleId")
+    int updateCover(@Param("articleId") Long articleId, @Param("thumbnailUrl") String thumbnailUrl, @Param("coverImageId") Long coverImageId);
+
+    // 대표 썸네일이 아직 expected 일 때만 교체 (그 사이 대표 이미지가 바뀌었으면 그대로 둠)
+    @Modifying
+    @Query("UPDATE Article a SET a.thumbnailUrl = :thumbnailUrl WHERE a.id = :articleId AND a.thumbnailUrl = :expected")
+    int replaceThumbnailUrl(@Param("articleId") Long articleId, @Param("expected") String expected, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // thumbnail_url 백필용, 썸네일이 있는 가장 앞 이미지를 대표로 복사
+    @Modifying
+    @Query("UPDATE Article a SET a.thumbnailUrl = (" +
+            "SELECT pi.thumbnailUrl FROM ProductImage pi WHERE pi.id = (" +
+            "SELECT MIN(p.id) FROM ProductImage p WHERE p.article.id = a.id AND p.thumbnailUrl IS NOT NULL)) " +
+            "WHERE a.thumbnailUrl IS NULL " +
+            "AND EXISTS (SELECT p.id FROM ProductImage p WHERE p.article.id = a.id AND p.thumbnailUrl IS NOT NULL)")
+    int backfillThumbnailUrl();
+
+    // cover_image_id 백필용, thumbnail_url 과 같은 대표 이미지
+    @Modifying
+    @Query("UPDATE Article a SET a.coverImageId = (" +
+            "SELECT MIN(p.id) FROM ProductImage p WHERE p.article.id = a.id AND p.thumbnailUrl IS NOT NULL) " +
+            "WHERE a.coverImageId IS NULL " +
+            "AND EXISTS (SELECT p.id FROM ProductImage p WHERE p.article.id = a.id AND p.thumbnailUrl IS NOT NULL)")
+    int backfillCoverImageId();
+
+    // 전체 게시글 목록 (id 역순 keyset), 작성자 프록시를 만들지 않도록 writer_id 컬럼만 조회
+    @Query("SELECT new org.duckdns.bidbuy.app.article.dto.ArticleSummaryResponse(a.id, a.title, a.category, a.price, a.tradeMethod, a.tradeStatus, a.createdDate, a.writer.id) " +
+            "FROM Article a WHERE a.id < :lastId ORDER BY a.id DESC")
+    List<ArticleSummaryResponse> findSummariesBefore(@Param("lastId") Long lastId, Pageable pageable);
+
+    // NDJSON 내보내기용, MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 행을 한 줄씩 스트리밍한다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.duckdns.bidbuy.app.article.dto.ArticleSummaryResponse(a.id, a.title, a.category, a.price, a.tradeMethod, a.tradeStatus, a.createdDate, a.writer.id) " +
+            "FROM Article a ORDER BY a.id DESC")
+    Stream<ArticleSummaryResponse> streamSummaries();
 }
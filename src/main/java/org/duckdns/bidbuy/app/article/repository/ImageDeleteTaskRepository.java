@@ -0,0 +1,28 @@
+package org.duckdns.bidbuy.app.article.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.duckdns.bidbuy.app.article.domain.ImageDeleteTask;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageDeleteTaskRepository extends JpaRepository<ImageDeleteTask, Long> {
+
+    // 지금 처리할 차례인 작업, 오래된 것부터
+    // 다른 워커가 잡고 있는 행은 건너뜀 (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<ImageDeleteTask> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+
+    // 주어진 사진 중 워커가 지우는 중인 것 (리스가 남아 있음)
+    @Query("SELECT DISTINCT t.fileName FROM ImageDeleteTask t WHERE t.fileName IN :fileNames AND t.deletingUntil > :now")
+    List<String> findDeletingFileNames(@Param("fileNames") Collection<String> fileNames, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package org.duckdns.bidbuy.app.article.repository;
+
+import org.duckdns.bidbuy.app.article.domain.ImageUploadClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageUploadClaimRepository extends JpaRepository<ImageUploadClaim, Long> {
+
+    // 주어진 사진 중 올리는 중인 것, 삭제 워커용 잠금 읽기 (idx_image_upload_claim_file_name)
+    // 이후 같은 사진의 claim INSERT 는 워커가 커밋할 때까지 막히고, 막혔던 업로드는 커밋된 삭제 표시를 보고 기다린다
+    @Query(value = "SELECT DISTINCT file_name FROM image_upload_claim WHERE file_name IN (:fileNames) AND claimed_at > :since FOR UPDATE", nativeQuery = true)
+    List<String> lockClaimedFileNames(@Param("fileNames") Collection<String> fileNames, @Param("since") LocalDateTime since);
+
+    // 업로드 도중 서버가 내려가서 남은 claim 정리
+    @Modifying
+    @Query("DELETE FROM ImageUploadClaim c WHERE c.claimedAt <= :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
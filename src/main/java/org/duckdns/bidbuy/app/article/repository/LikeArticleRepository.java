@@ -4,10 +4,12 @@ import org.duckdns.bidbuy.app.article.domain.LikeArticle;
 import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +22,16 @@ public interface LikeArticleRepository extends JpaRepository<LikeArticle, Long>
     Optional<LikeArticle> findByArticleIdAndUserId(Long articleId, Long userId);
 
     void deleteByArticleId(Long id);
+
+    @Query("SELECT la.user.id FROM LikeArticle la WHERE la.article.id = :articleId")
+    List<Long> findUserIdsByArticleId(@Param("articleId") Long articleId);
+
+    @Modifying
+    @Query("DELETE FROM LikeArticle la WHERE la.article.id = :articleId AND la.user.id = :userId")
+    int deleteLike(@Param("articleId") Long articleId, @Param("userId") Long userId);
+
+    // uk_like_article_article_user 에 걸리면 무시 (0 건)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO like_article (article_id, user_id, created_date, modified_date) VALUES (:articleId, :userId, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("articleId") Long articleId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
@@ -3,11 +3,35 @@ package org.duckdns.bidbuy.app.article.repository;
 import org.duckdns.bidbuy.app.article.domain.Article;
 import org.duckdns.bidbuy.app.article.domain.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
     void deleteByArticle(Article article);
     List<ProductImage> findByArticle(Article article);
-    ProductImage findByImageUrl(String imageUrl);
+    List<ProductImage> findByArticleAndImageUrl(Article article, String imageUrl);
+
+    // 같은 사진 (내용 해시 파일명) 을 참조하는 이미지가 남아 있는지
+    boolean existsByImageUrl(String imageUrl);
+
+    // 주어진 사진 중 아직 참조되고 있는 것, 삭제 워커용 잠금 읽기 (idx_product_image_url)
+    // 커밋 전인 같은 사진의 INSERT 는 기다렸다가 읽고, 이후 같은 사진의 INSERT 는 워커의 짧은 확인 트랜잭션이 끝날 때까지 막힌다
+    @Query(value = "SELECT DISTINCT image_url FROM product_image WHERE image_url IN (:imageUrls) FOR UPDATE", nativeQuery = true)
+    List<String> lockReferencedImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
+    // 대표 이미지 (썸네일을 가진 가장 앞 이미지)
+    Optional<ProductImage> findFirstByArticleIdAndThumbnailUrlIsNotNullOrderByIdAsc(Long articleId);
+
+    // 같은 사진의 파생 이미지가 이미 만들어져 있는지
+    Optional<ProductImage> findFirstByImageUrlAndCardUrlIsNotNull(String imageUrl);
+
+    @Modifying
+    @Query("UPDATE ProductImage p SET p.cardUrl = :cardUrl, p.detailUrl = :detailUrl, p.avatarUrl = :avatarUrl WHERE p.id = :id")
+    int updateDerivatives(@Param("id") Long id, @Param("cardUrl") String cardUrl,
+                          @Param("detailUrl") String detailUrl, @Param("avatarUrl") String avatarUrl);
 }
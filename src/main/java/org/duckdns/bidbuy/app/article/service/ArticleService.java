@@ -1,14 +1,20 @@
 package org.duckdns.bidbuy.app.article.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailSnapshot;
 import org.duckdns.bidbuy.app.article.domain.Article;
-import org.duckdns.bidbuy.app.article.domain.LikeArticle;
 import org.duckdns.bidbuy.app.article.domain.ProductImage;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
 import org.duckdns.bidbuy.app.article.dto.ArticleDetailResponse;
 import org.duckdns.bidbuy.app.article.dto.ArticleRequest;
 import org.duckdns.bidbuy.app.article.dto.ArticleResponse;
+import org.duckdns.bidbuy.app.article.dto.ArticleSummaryPageResponse;
 import org.duckdns.bidbuy.app.article.dto.ArticleSummaryResponse;
+import org.duckdns.bidbuy.app.article.event.ArticleChangedEvent;
+import org.duckdns.bidbuy.app.article.event.ArticleSnapshot;
 import org.duckdns.bidbuy.app.article.exception.ArticleNoPermitException;
 import org.duckdns.bidbuy.app.article.exception.ArticleNotExistException;
 import org.duckdns.bidbuy.app.article.exception.WriterNotFoundException;
@@ -19,23 +25,35 @@ import org.duckdns.bidbuy.app.chat.repository.ChatRoomRepository;
 import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
 import org.duckdns.bidbuy.app.offer.repository.OfferRepository;
 import org.duckdns.bidbuy.app.offer.service.OfferService;
+import org.duckdns.bidbuy.app.region.service.RegionService;
 import org.duckdns.bidbuy.app.user.domain.User;
-import org.duckdns.bidbuy.app.user.exception.ForbiddenException;
-import org.duckdns.bidbuy.app.user.exception.NotLoggedInException;
 import org.duckdns.bidbuy.app.user.repository.UserRepository;
+import org.duckdns.bidbuy.app.user.service.UserStatsService;
 import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.duckdns.bidbuy.global.error.InvalidCursorException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -43,6 +61,10 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ArticleService {
 
+    private static final String SUMMARY_SORT_KEY = "id";
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
+    private static final int STREAM_FLUSH_ROWS = 100;
+
     private final ArticleRepository articleRepository;
     private final UserRepository userRepository;
     private final ProductImageRepository productImageRepository;
@@ -51,12 +73,33 @@ public class ArticleService {
     private final LikeArticleRepository likeArticleRepository;
     private final OfferRepository offerRepository;
     private final ChatRoomRepository chatRoomRepository;
-
-    @Transactional
+    private final ApplicationEventPublisher eventPublisher;
+    private final RegionService regionService;
+    private final ViewCountService viewCountService;
+    private final LikeArticleService likeArticleService;
+    private final UserStatsService userStatsService;
+    private final ObjectMapper objectMapper;
+    private final ArticleDetailCache articleDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageDeleteOutboxService imageDeleteOutboxService;
+
+    // 이미지는 트랜잭션 밖에서 먼저 병렬로 올리고 (업로드 동안 DB 커넥션을 잡지 않음), 저장이 실패하면 올린 이미지를 삭제 outbox 에 기록
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleResponse createArticle(ArticleRequest requestDTO, MultipartFile[] images) throws IOException {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUser().getId();
 
+        ImageUploadService.ArticleImages uploaded = imageUploadService.uploadArticleImages(images);
+        try {
+            return transactionTemplate.execute(status -> saveArticle(userId, requestDTO, uploaded));
+        } catch (RuntimeException e) {
+            imageDeleteOutboxService.abandon(uploaded.originals(), uploaded.claimIds());
+            throw e;
+        }
+    }
+
+    private ArticleResponse saveArticle(Long userId, ArticleRequest requestDTO, ImageUploadService.ArticleImages uploaded) {
         User writer = userRepository.findById(userId).orElseThrow(() -> new WriterNotFoundException(userId));
 
         Article article = Article.builder()
@@ -66,6 +109,7 @@ public class ArticleService {
                 .quantity(requestDTO.getQuantity())
                 .addr1(requestDTO.getAddr1())
                 .addr2(requestDTO.getAddr2())
+                .regionId(regionService.resolve(requestDTO.getAddr1(), requestDTO.getAddr2()))
                 .category(requestDTO.getCategory())
                 .tradeMethod(requestDTO.getTradeMethod())
                 .tradeStatus(requestDTO.getTradeStatus())
@@ -77,8 +121,10 @@ public class ArticleService {
                 .build();
 
         Article savedArticle = articleRepository.save(article);
+        userStatsService.add(userId, UserStatsService.Counter.SALE, 1);
 
-        List<Map<String, String>> imageUrlMaps = imageUploadService.uploadImages(images);
+        List<Map<String, String>> imageUrlMaps = uploaded.imageUrlMaps();
+        List<Long> savedImageIds = new ArrayList<>();
         for (int i = 0; i < imageUrlMaps.size(); i++) {
             Map<String, String> imageUrlMap = imageUrlMaps.get(i);
             ProductImage.ProductImageBuilder productImageBuilder = ProductImage.builder()
@@ -88,28 +134,58 @@ public class ArticleService {
                     .modifiedDate(LocalDateTime.now());
 
             // 첫 번째 이미지인 경우에만 썸네일 URL 설정
-            if (i == 0 && imageUrlMap.containsKey("thumbnail")) {
+            boolean cover = i == 0 && imageUrlMap.containsKey("thumbnail");
+            if (cover) {
                 productImageBuilder.thumbnailUrl(imageUrlMap.get("thumbnail"));
             }
 
-            ProductImage productImage = productImageBuilder.build();
-            productImageRepository.save(productImage);
+            ProductImage productImage = productImageRepository.save(productImageBuilder.build());
+            savedImageIds.add(productImage.getId());
+            if (cover) {
+                savedArticle.updateCover(productImage.getThumbnailUrl(), productImage.getId());
+            }
         }
+        // 이미지 행과 같이 커밋, 이후에는 삭제 워커가 참조를 보고 남김
+        imageDeleteOutboxService.release(uploaded.claimIds());
+
+        imageDerivativeService.generateAfterCommit(savedImageIds);
+        eventPublisher.publishEvent(ArticleChangedEvent.created(ArticleSnapshot.from(savedArticle)));
 
         return ArticleResponse.from(savedArticle);
     }
 
 
-    @Transactional
+    // 작성자 확인 후 새 이미지를 트랜잭션 밖에서 먼저 올리고, 수정이 실패하면 올린 이미지를 삭제 outbox 에 기록
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ArticleResponse updateArticle(Long id, ArticleRequest requestDTO, MultipartFile[] images) throws IOException {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUser().getId();
 
+        Long writerId = articleRepository.findWriterIdById(id).orElseThrow(() -> new ArticleNotExistException(id));
+        if (!writerId.equals(userId)) {
+            throw new ArticleNoPermitException(userId);
+        }
+
+        ImageUploadService.ArticleImages uploaded = images != null && images.length > 0
+                ? imageUploadService.uploadArticleImages(images) : ImageUploadService.ArticleImages.none();
+        try {
+            return transactionTemplate.execute(status -> applyUpdate(id, userId, requestDTO, uploaded));
+        } catch (RuntimeException e) {
+            imageDeleteOutboxService.abandon(uploaded.originals(), uploaded.claimIds());
+            throw e;
+        }
+    }
+
+    private ArticleResponse applyUpdate(Long id, Long userId, ArticleRequest requestDTO, ImageUploadService.ArticleImages uploaded) {
         Article article = articleRepository.findById(id).orElseThrow(() -> new ArticleNotExistException(id));
 
         if (!article.getWriter().getId().equals(userId)) {
             throw new ArticleNoPermitException(userId);
         }
+        ArticleSnapshot before = ArticleSnapshot.from(article);
+
+        String addr1 = requestDTO.getAddr1() != null ? requestDTO.getAddr1() : article.getAddr1();
+        String addr2 = requestDTO.getAddr2() != null ? requestDTO.getAddr2() : article.getAddr2();
 
         Article updatedArticle = Article.builder()
                 .id(id)
@@ -117,19 +193,28 @@ public class ArticleService {
                 .content(requestDTO.getContent() != null ? requestDTO.getContent() : article.getContent())
                 .price(requestDTO.getPrice() != null ? requestDTO.getPrice() : article.getPrice())
                 .quantity(requestDTO.getQuantity() != null ? requestDTO.getQuantity() : article.getQuantity())
-                .addr1(requestDTO.getAddr1() != null ? requestDTO.getAddr1() : article.getAddr1())
-                .addr2(requestDTO.getAddr2() != null ? requestDTO.getAddr2() : article.getAddr2())
+                .addr1(addr1)
+                .addr2(addr2)
+                .regionId(regionService.resolve(addr1, addr2))
                 .category(requestDTO.getCategory() != null ? requestDTO.getCategory() : article.getCategory())
                 .tradeMethod(requestDTO.getTradeMethod() != null ? requestDTO.getTradeMethod() : article.getTradeMethod())
                 .tradeStatus(requestDTO.getTradeStatus() != null ? requestDTO.getTradeStatus() : article.getTradeStatus())
                 .viewCount(article.getViewCount())
                 .likeCount(article.getLikeCount())
+                .thumbnailUrl(article.getThumbnailUrl())
+                .coverImageId(article.getCoverImageId())
                 .createdDate(article.getCreatedDate())
                 .modifiedDate(LocalDateTime.now())
                 .writer(article.getWriter())
                 .build();
         articleRepository.save(updatedArticle);
 
+        // 판매 완료로 바뀌거나 판매 완료에서 풀리면 선택된 제안자의 구매 개수 보정
+        if (before.getTradeStatus() != updatedArticle.getTradeStatus()
+                && (before.getTradeStatus() == TradeStatus.SOLD_OUT || updatedArticle.getTradeStatus() == TradeStatus.SOLD_OUT)) {
+            userStatsService.markDirty(offerRepository.findSelectedOffererIdsByArticleId(id));
+        }
+
         List<ProductImage> existingImages = productImageRepository.findByArticle(article);
         List<String> existingImageUrls = existingImages.stream()
                 .map(ProductImage::getImageUrl)
@@ -142,17 +227,22 @@ public class ArticleService {
                 .filter(url -> !newImageUrls.contains(url))
                 .collect(Collectors.toList());
 
+        // 저장소 객체는 커밋 후 outbox 워커가 참조가 하나도 남지 않은 사진만 지움
         for (String deletedImageUrl : deletedImageUrls) {
-            imageUploadService.deleteImage(deletedImageUrl);
-            ProductImage productImage = productImageRepository.findByImageUrl(deletedImageUrl);
-            if (productImage != null) {
-                productImageRepository.delete(productImage);
-            }
+            productImageRepository.deleteAll(productImageRepository.findByArticleAndImageUrl(article, deletedImageUrl));
         }
-
-        // 새로 추가된 이미지 파일 업로드 및 저장 처리
-        if (images != null && images.length > 0) {
-            List<Map<String, String>> imageUrlMaps = imageUploadService.uploadImages(images);
+        imageDeleteOutboxService.enqueue(deletedImageUrls);
+
+        // 대표 이미지: 남아 있는 기존 대표 이미지, 없으면 새로 올린 첫 번째 이미지
+        ProductImage coverImage = existingImages.stream()
+                .filter(image -> image.getThumbnailUrl() != null && !deletedImageUrls.contains(image.getImageUrl()))
+                .min(Comparator.comparing(ProductImage::getId))
+                .orElse(null);
+
+        // 새로 추가된 이미지 저장 처리 (업로드는 트랜잭션 전에 끝남)
+        List<Map<String, String>> imageUrlMaps = uploaded.imageUrlMaps();
+        List<Long> savedImageIds = new ArrayList<>();
+        if (!imageUrlMaps.isEmpty()) {
             for (int i = 0; i < imageUrlMaps.size(); i++) {
                 Map<String, String> imageUrlMap = imageUrlMaps.get(i);
                 ProductImage.ProductImageBuilder productImageBuilder = ProductImage.builder()
@@ -162,15 +252,31 @@ public class ArticleService {
                         .modifiedDate(LocalDateTime.now());
 
                 // 첫 번째 이미지인 경우에만 썸네일 URL 설정
-                if (i == 0 && imageUrlMap.containsKey("thumbnail")) {
+                boolean cover = i == 0 && imageUrlMap.containsKey("thumbnail");
+                if (cover) {
                     productImageBuilder.thumbnailUrl(imageUrlMap.get("thumbnail"));
                 }
 
-                ProductImage productImage = productImageBuilder.build();
-                productImageRepository.save(productImage);
+                ProductImage productImage = productImageRepository.save(productImageBuilder.build());
+                savedImageIds.add(productImage.getId());
+                if (cover && coverImage == null) {
+                    coverImage = productImage;
+                }
             }
+            // 이미지 행과 같이 커밋, 이후에는 삭제 워커가 참조를 보고 남김
+            imageDeleteOutboxService.release(uploaded.claimIds());
+        }
+
+        String thumbnailUrl = coverImage != null ? coverImage.getCoverUrl() : null;
+        Long coverImageId = coverImage != null ? coverImage.getId() : null;
+        if (!Objects.equals(thumbnailUrl, updatedArticle.getThumbnailUrl())
+                || !Objects.equals(coverImageId, updatedArticle.getCoverImageId())) {
+            articleRepository.updateCover(id, thumbnailUrl, coverImageId);
         }
 
+        imageDerivativeService.generateAfterCommit(savedImageIds);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(before, ArticleSnapshot.from(updatedArticle)));
+
         return ArticleResponse.from(updatedArticle);
     }
 
@@ -184,6 +290,10 @@ public class ArticleService {
             throw new ArticleNoPermitException(userId);
         }
 
+        // 함께 지워지는 찜/제안의 유저는 프로필 개수 보정 대상
+        Set<Long> affectedUserIds = new HashSet<>(likeArticleRepository.findUserIdsByArticleId(id));
+        affectedUserIds.addAll(offerRepository.findOffererIdsByArticleId(id));
+
         // likeArticle 테이블에서 관련된 행 삭제
         likeArticleRepository.deleteByArticleId(id);
         // offer 테이블에서 관련된 행 삭제
@@ -192,107 +302,110 @@ public class ArticleService {
 
 
 
-        List<ProductImage> images = productImageRepository.findByArticle(article);
-        for (ProductImage productImage : images) {
-            imageUploadService.deleteImage(productImage.getImageUrl());
-            if (productImage.getThumbnailUrl() != null) {
-                imageUploadService.deleteImage(productImage.getThumbnailUrl());
-            }
-        }
+        List<String> imageUrls = productImageRepository.findByArticle(article).stream()
+                .map(ProductImage::getImageUrl)
+                .toList();
         productImageRepository.deleteByArticle(article);  // DB에서 이미지 레코드 삭제
+        imageDeleteOutboxService.enqueue(imageUrls);  // 저장소 객체는 커밋 후 워커가 삭제 (다른 게시글이 같은 사진을 쓰면 남김)
         articleRepository.delete(article);  // 게시글 삭제
+        userStatsService.add(userId, UserStatsService.Counter.SALE, -1);
+        userStatsService.markDirty(affectedUserIds);
+
+        eventPublisher.publishEvent(ArticleChangedEvent.deleted(ArticleSnapshot.from(article)));
     }
 
     public ArticleDetailResponse getArticleDetail(Long id) {
-        Article article = articleRepository.findById(id).orElseThrow(() -> new ArticleNotExistException(id));
+        // 보는 사람과 상관없는 부분은 캐시, 좋아요 여부만 요청마다 조회
+        ArticleDetailSnapshot detail = articleDetailCache.get(id, () -> loadArticleDetail(id));
 
-        List<ProductImage> images = productImageRepository.findByArticle(article);
-        String[] imageUrls = images.stream().map(ProductImage::getImageUrl).toArray(String[]::new);
-        List<OfferResponse> offers = offerService.getOffersByArticleId(id);
-        offers = offers.stream()
-                .sorted(Comparator.comparing(OfferResponse::getOfferPrice))
-                .collect(Collectors.toList());
         boolean liked = false;
         if (SecurityContextHolder.getContext().getAuthentication().getPrincipal() instanceof CustomUserDetails customUserDetails) {
             Long userId = customUserDetails.getUser().getId();
             liked = likeArticleRepository.findByArticleIdAndUserId(id, userId).isPresent();
         }
 
-        return new ArticleDetailResponse(
-                article.getId(),
-                article.getTitle(),
-                article.getContent(),
-                article.getPrice(),
-                article.getQuantity(),
-                article.getAddr1(),
-                article.getAddr2(),
-                article.getCreatedDate(),
-                article.getCategory(),
-                article.getTradeMethod(),
-                article.getTradeStatus(),
-                article.getWriter().getId(),
-                article.getWriter().getUsername(),
-                article.getWriter().getProfileImageUrl(),
-                article.getProductImages().get(0).getThumbnailUrl(),
-                imageUrls,
-                liked,
-                article.getLikeCount(),
-                offers
-        );
+        return detail.toResponse(liked);
     }
 
-    public List<ArticleSummaryResponse> getAllArticles() {
-        List<Article> articles = articleRepository.findAll();
-
-        return articles.stream()
-                .map(article -> new ArticleSummaryResponse(
-                        article.getId(),
-                        article.getTitle(),
-                        article.getCategory(),
-                        article.getPrice(),
-                        article.getTradeMethod(),
-                        article.getTradeStatus(),
-                        article.getCreatedDate(),
-                        article.getWriter().getId()
-                )).collect(Collectors.toList());
+    private ArticleDetailSnapshot loadArticleDetail(Long id) {
+        Article article = articleRepository.findById(id).orElseThrow(() -> new ArticleNotExistException(id));
+
+        List<ProductImage> images = productImageRepository.findByArticle(article);
+        List<String> imageUrls = images.stream().map(ProductImage::getImageUrl).toList();
+        List<String> detailImageUrls = images.stream().map(ProductImage::getDetailOrOriginalUrl).toList();
+        List<OfferResponse> offers = offerService.getOffersByArticleId(id, article.getTradeStatus());
+
+        return ArticleDetailSnapshot.builder()
+                .id(article.getId())
+                .title(article.getTitle())
+                .content(article.getContent())
+                .price(article.getPrice())
+                .quantity(article.getQuantity())
+                .addr1(article.getAddr1())
+                .addr2(article.getAddr2())
+                .createdDate(article.getCreatedDate())
+                .category(article.getCategory())
+                .tradeMethod(article.getTradeMethod())
+                .tradeStatus(article.getTradeStatus())
+                .writerId(article.getWriter().getId())
+                .writerUsername(article.getWriter().getUsername())
+                .writerProfileImageUrl(article.getWriter().getProfileImageUrl())
+                .thumbnailUrl(article.getThumbnailUrl())
+                .imageUrls(imageUrls)
+                .detailImageUrls(detailImageUrls)
+                .likeCount(article.getLikeCount())
+                .offers(offers)
+                .build();
     }
 
-    @Transactional
-    public String likeArticle(Long articleId) {
-        var principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Long userId = null;
-        if (principal instanceof CustomUserDetails customUserDetails) {
-            userId = customUserDetails.getUser().getId();
-        }else if(principal instanceof String) {
-            throw new NotLoggedInException("찜하려면 로그인 하세요");
+    // 전체 게시글 목록, id 역순 커서 페이징 (커서가 없으면 첫 페이지)
+    public ArticleSummaryPageResponse getAllArticles(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_SUMMARY_PAGE_SIZE);
+
+        Long lastId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            if (!SUMMARY_SORT_KEY.equals(keysetCursor.getSortKey())) {
+                throw new InvalidCursorException(cursor);
+            }
+            lastId = keysetCursor.getLastId();
+        }
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인
+        List<ArticleSummaryResponse> articles = articleRepository.findSummariesBefore(lastId, PageRequest.of(0, pageSize + 1));
+        String nextCursor = null;
+        if (articles.size() > pageSize) {
+            articles = articles.subList(0, pageSize);
+            nextCursor = new KeysetCursor(SUMMARY_SORT_KEY, null, articles.get(pageSize - 1).getId()).encode();
         }
+        return new ArticleSummaryPageResponse(articles, nextCursor);
+    }
 
-        userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
-
-        Optional<LikeArticle> likeArticles = likeArticleRepository.findByArticleIdAndUserId(articleId, userId);
-        Optional<Article> article = articleRepository.findById(articleId);
-        if(article.isEmpty()) throw new IllegalArgumentException("게시글이 존재하지 않습니다.");
-        if(article.get().getWriter().getId().equals(userId)) throw new ForbiddenException("본인의 게시글는 찜할 수 없습니다.");
-
-        if(likeArticles.isPresent()){
-            likeArticleRepository.deleteByArticleIdAndUserId(articleId, userId);
-            article.get().minusLikeCount();
-            return "찜한 상품을 목록에서 제거했습니다.";
-        }else{
-            LikeArticle likeArticle = LikeArticle.builder()
-                    .user(User.builder().id(userId).build())
-                    .article(Article.builder().id(articleId).build())
-                    .build();
-
-            article.get().plusLikeCount();
-            likeArticleRepository.save(likeArticle);
-            return "상품을 찜목록에 등록했습니다.";
+    // 전체 게시글을 NDJSON 으로 한 줄씩 씀, 행을 읽는 대로 내보내서 게시글 수와 상관없이 메모리 사용량이 일정
+    // 스트림을 다 읽을 때까지 읽기 전용 트랜잭션(커넥션)을 유지
+    public void writeAllArticles(OutputStream out) throws IOException {
+        try (Stream<ArticleSummaryResponse> articles = articleRepository.streamSummaries()) {
+            Iterator<ArticleSummaryResponse> iterator = articles.iterator();
+            int rows = 0;
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                if (++rows % STREAM_FLUSH_ROWS == 0) {
+                    out.flush();
+                }
+            }
         }
+        out.flush();
     }
 
+    // 클래스의 readOnly 트랜잭션을 그대로 쓰면 찜 토글의 INSERT/UPDATE 가 읽기 전용 커넥션에서 실패함
     @Transactional
+    public String likeArticle(Long articleId) {
+        return likeArticleService.toggle(articleId);
+    }
+
+    // 조회수는 메모리에 모았다가 주기적으로 DB 에 반영
     public void plusViewCount(Long articleId) {
-        Article article = articleRepository.findById(articleId).orElseThrow(() -> new ArticleNotExistException(articleId));
-        article.plusViewCount();
+        viewCountService.increment(articleId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,285 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.domain.ImageDeleteTask;
+import org.duckdns.bidbuy.app.article.domain.ImageDerivative;
+import org.duckdns.bidbuy.app.article.domain.ImageUploadClaim;
+import org.duckdns.bidbuy.app.article.repository.ImageDeleteTaskRepository;
+import org.duckdns.bidbuy.app.article.repository.ImageUploadClaimRepository;
+import org.duckdns.bidbuy.app.article.repository.ProductImageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+// 저장소 객체 삭제 outbox
+// 삭제할 사진은 게시글/이미지 행 삭제와 같은 트랜잭션에서 기록만 하고 (롤백되면 함께 사라짐), 워커가 다중 삭제 요청으로 모아서 지운다
+// 트랜잭션 안에서는 저장소를 부르지 않는다, 업로드와 워커는 짧게 커밋하는 행으로만 서로를 확인
+// - 업로드: 사진마다 claim 을 먼저 커밋 -> 워커가 지우는 중인 사진이면 끝날 때까지 기다림 -> 없는 객체만 올림 -> 이미지 행 저장과 함께 claim 삭제
+// - 워커: 작업을 SKIP LOCKED 로 집고, product_image 참조와 claim 을 잠금 읽기로 확인해서 남은 사진에 삭제 리스를 걸고 커밋
+//         -> 트랜잭션 밖에서 객체 삭제 -> 결과를 따로 커밋
+// 워커가 먼저 확인하면 그 뒤의 claim INSERT 는 워커 커밋까지 막히고 업로드는 리스를 보고 기다리며, 업로드가 먼저면 워커가 claim 을 보고 남긴다
+// 실패한 사진은 지수 백오프로 다시 시도, 여러 서버의 워커는 SKIP LOCKED 로 서로 다른 작업을 집는다
+@Slf4j
+@Service
+public class ImageDeleteOutboxService {
+
+    // 다중 삭제 요청 한 번에 담을 수 있는 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
+    private static final long DELETING_POLL_MS = 200;
+
+    private final ImageDeleteTaskRepository imageDeleteTaskRepository;
+    private final ImageUploadClaimRepository imageUploadClaimRepository;
+    private final ProductImageRepository productImageRepository;
+    private final AmazonS3 amazonS3;
+    private final TransactionTemplate transactionTemplate;
+    private final String bucket;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long retryBaseMs;
+    private final long retryMaxMs;
+    private final int alertAttempts;
+    private final long leaseMs;
+    private final long claimTtlMs;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder deleted = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public ImageDeleteOutboxService(ImageDeleteTaskRepository imageDeleteTaskRepository,
+                                    ImageUploadClaimRepository imageUploadClaimRepository,
+                                    ProductImageRepository productImageRepository,
+                                    AmazonS3 amazonS3,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${ncp.objectstorage.bucket}") String bucket,
+                                    @Value("${image.delete-outbox.batch-size:100}") int batchSize,
+                                    @Value("${image.delete-outbox.max-batches:10}") int maxBatches,
+                                    @Value("${image.delete-outbox.retry-base-ms:10000}") long retryBaseMs,
+                                    @Value("${image.delete-outbox.retry-max-ms:3600000}") long retryMaxMs,
+                                    @Value("${image.delete-outbox.alert-attempts:10}") int alertAttempts,
+                                    @Value("${image.delete-outbox.lease-ms:60000}") long leaseMs,
+                                    @Value("${image.upload-claim.ttl-ms:3600000}") long claimTtlMs) {
+        this.imageDeleteTaskRepository = imageDeleteTaskRepository;
+        this.imageUploadClaimRepository = imageUploadClaimRepository;
+        this.productImageRepository = productImageRepository;
+        this.amazonS3 = amazonS3;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bucket = bucket;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.retryBaseMs = retryBaseMs;
+        this.retryMaxMs = retryMaxMs;
+        this.alertAttempts = alertAttempts;
+        this.leaseMs = leaseMs;
+        this.claimTtlMs = claimTtlMs;
+    }
+
+    // 호출한 트랜잭션에 함께 기록, 트랜잭션 밖이면 바로 커밋
+    @Transactional
+    public void enqueue(Collection<String> fileNames) {
+        List<ImageDeleteTask> tasks = new ArrayList<>();
+        for (String fileName : new LinkedHashSet<>(fileNames)) {
+            tasks.add(ImageDeleteTask.of(fileName));
+        }
+        imageDeleteTaskRepository.saveAll(tasks);
+    }
+
+    // 업로드 전에 호출 (트랜잭션 밖), 바로 커밋해서 워커가 볼 수 있게 함
+    @Transactional
+    public List<Long> claim(Collection<String> fileNames) {
+        List<ImageUploadClaim> claims = new ArrayList<>();
+        for (String fileName : new LinkedHashSet<>(fileNames)) {
+            claims.add(ImageUploadClaim.of(fileName));
+        }
+        return imageUploadClaimRepository.saveAll(claims).stream().map(ImageUploadClaim::getId).toList();
+    }
+
+    // claim 을 커밋한 뒤에 호출, 워커가 지우는 중인 사진이 있으면 리스가 풀릴 때까지 기다림
+    // 리스가 끝나도 남아 있으면 (워커가 멈춤) 더 기다리지 않음, 다음 워커는 claim 을 보고 남긴다
+    public void awaitDeleting(Collection<String> fileNames) {
+        long deadline = System.currentTimeMillis() + leaseMs;
+        while (!imageDeleteTaskRepository.findDeletingFileNames(fileNames, LocalDateTime.now()).isEmpty()) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("이미지 삭제 리스가 끝나지 않음, 업로드 계속: fileNames={}", fileNames);
+                return;
+            }
+            try {
+                Thread.sleep(DELETING_POLL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("이미지 삭제 대기 중단", e);
+            }
+        }
+    }
+
+    // 이미지 행을 저장하는 트랜잭션에서 호출, 참조가 생기는 것과 같이 커밋됨
+    @Transactional
+    public void release(Collection<Long> claimIds) {
+        if (!claimIds.isEmpty()) {
+            imageUploadClaimRepository.deleteAllByIdInBatch(claimIds);
+        }
+    }
+
+    // 업로드나 저장이 실패한 경우, 올린 사진을 삭제 대상으로 넘기고 claim 을 풂 (참조가 없을 때만 지워짐)
+    @Transactional
+    public void abandon(Collection<String> fileNames, Collection<Long> claimIds) {
+        enqueue(fileNames);
+        release(claimIds);
+    }
+
+    @Scheduled(fixedDelayString = "${image.delete-outbox.interval-ms:5000}")
+    public void drain() {
+        for (int i = 0; i < maxBatches; i++) {
+            if (drainBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${image.upload-claim.purge-interval-ms:600000}")
+    public void purgeExpiredClaims() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(claimTtlMs));
+        Integer purged = transactionTemplate.execute(status -> imageUploadClaimRepository.deleteExpired(before));
+        if (purged != null && purged > 0) {
+            log.warn("만료된 업로드 claim 정리: {}", purged);
+        }
+    }
+
+    // 확인 -> 삭제 -> 결과 기록, 확인과 기록은 각각 짧은 트랜잭션이고 객체 삭제는 트랜잭션 밖
+    // 확인 트랜잭션이 게시글 저장과 교착이 생기면 바꾼 행이 없는 워커 쪽이 되돌려지고, 작업은 남아 있으므로 다음 주기에 다시 처리
+    private int drainBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Batch batch;
+        try {
+            batch = transactionTemplate.execute(status -> claimBatch(now));
+        } catch (RuntimeException e) {
+            log.warn("이미지 삭제 배치 확인 실패, 다음 주기에 다시 시도", e);
+            return 0;
+        }
+        if (batch == null || batch.size() == 0) {
+            return 0;
+        }
+
+        Set<String> targets = new LinkedHashSet<>();
+        batch.deleting().forEach(task -> targets.add(task.getFileName()));
+        Set<String> failed = targets.isEmpty() ? Set.of() : deleteContents(targets);
+
+        deleted.add(targets.size() - failed.size());
+        failures.add(failed.size());
+
+        List<Long> done = new ArrayList<>();
+        List<ImageDeleteTask> retries = new ArrayList<>();
+        for (ImageDeleteTask task : batch.deleting()) {
+            if (!failed.contains(task.getFileName())) {
+                done.add(task.getId());
+                continue;
+            }
+            task.retryAt(now.plus(Duration.ofMillis(backoffMs(task.getAttempts()))));
+            if (task.getAttempts() == alertAttempts) {
+                log.error("이미지 삭제 {}회 실패, 계속 재시도: fileName={}", task.getAttempts(), task.getFileName());
+            }
+            retries.add(task);
+        }
+        // 여기서 실패하면 리스가 끝난 뒤 다시 집혀서 한 번 더 지움 (삭제는 멱등)
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                imageDeleteTaskRepository.deleteAllByIdInBatch(done);
+            }
+            imageDeleteTaskRepository.saveAll(retries);
+        });
+        return batch.size();
+    }
+
+    // 처리할 작업을 잠그고 참조를 확인, 참조 중인 사진의 작업은 지우고 나머지에는 삭제 리스를 건다
+    private Batch claimBatch(LocalDateTime now) {
+        List<ImageDeleteTask> tasks = imageDeleteTaskRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(now, PageRequest.of(0, batchSize));
+        if (tasks.isEmpty()) {
+            return new Batch(0, List.of());
+        }
+        batches.increment();
+
+        Set<String> fileNames = new LinkedHashSet<>();
+        tasks.forEach(task -> fileNames.add(task.getFileName()));
+        Set<String> referenced = new HashSet<>(productImageRepository.lockReferencedImageUrls(fileNames));
+        referenced.addAll(imageUploadClaimRepository.lockClaimedFileNames(fileNames, now.minus(Duration.ofMillis(claimTtlMs))));
+        skipped.add(referenced.size());
+
+        List<ImageDeleteTask> done = new ArrayList<>();
+        List<ImageDeleteTask> deleting = new ArrayList<>();
+        LocalDateTime until = now.plus(Duration.ofMillis(leaseMs));
+        for (ImageDeleteTask task : tasks) {
+            if (referenced.contains(task.getFileName())) {
+                done.add(task);
+            } else {
+                task.startDeleting(until);
+                deleting.add(task);
+            }
+        }
+        imageDeleteTaskRepository.deleteAllInBatch(done);
+        return new Batch(tasks.size(), deleting);
+    }
+
+    private record Batch(int size, List<ImageDeleteTask> deleting) {
+    }
+
+    // 원본과 원본에서 만든 객체 (썸네일, 파생 이미지) 를 다중 삭제 요청으로 지움, 없는 키는 무시됨
+    // 지우지 못한 객체가 있는 파일명을 돌려줌
+    private Set<String> deleteContents(Collection<String> fileNames) {
+        Map<String, String> fileNameByKey = new LinkedHashMap<>();
+        for (String fileName : fileNames) {
+            fileNameByKey.put("article/" + fileName, fileName);
+            fileNameByKey.put("article/s_" + fileName, fileName);
+            for (ImageDerivative derivative : ImageDerivative.values()) {
+                fileNameByKey.put("article/" + derivative.fileName(fileName), fileName);
+            }
+        }
+
+        Set<String> failed = new HashSet<>();
+        List<String> keys = new ArrayList<>(fileNameByKey.keySet());
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+            try {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(chunk.toArray(new String[0])).withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failed.add(fileNameByKey.get(error.getKey())));
+            } catch (RuntimeException e) {
+                log.warn("이미지 삭제 요청 실패: keys={}", chunk.size(), e);
+                chunk.forEach(key -> failed.add(fileNameByKey.get(key)));
+            }
+        }
+        return failed;
+    }
+
+    private long backoffMs(int attempts) {
+        return Math.min(retryMaxMs, retryBaseMs << Math.min(attempts, 20));
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("pending", imageDeleteTaskRepository.count());
+        stats.put("batches", batches.sum());
+        stats.put("deleted", deleted.sum());
+        stats.put("skippedReferenced", skipped.sum());
+        stats.put("failures", failures.sum());
+        return stats;
+    }
+}
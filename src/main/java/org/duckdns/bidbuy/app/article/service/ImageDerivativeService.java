@@ -0,0 +1,208 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
+import org.duckdns.bidbuy.app.article.domain.ImageDerivative;
+import org.duckdns.bidbuy.app.article.domain.ProductImage;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.article.repository.ProductImageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 업로드된 원본에서 크기별 파생 이미지 (목록 카드/상세/채팅 아바타) 를 백그라운드로 만들어 ProductImage 에 기록
+// 원본은 한 번만 내려받아 디코딩하고, 준비되기 전까지 응답은 원본 (대표 썸네일은 기존 s_ 썸네일) 을 쓴다
+// 같은 사진은 파생 이미지도 한 벌만 만든다 (키가 원본 파일명에서 정해짐)
+// 파생 이미지 키는 같은 사진을 쓰는 게시글끼리 공유하므로 직접 지우지 않고, 원본이 삭제될 때 outbox 워커가 함께 지운다
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private final AmazonS3 amazonS3;
+    private final ProductImageRepository productImageRepository;
+    private final ArticleRepository articleRepository;
+    private final ArticleDetailCache articleDetailCache;
+    private final ImageDeleteOutboxService imageDeleteOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor imageDerivativeExecutor;
+    private final String bucket;
+    private final float jpegQuality;
+
+    public ImageDerivativeService(AmazonS3 amazonS3,
+                                  ProductImageRepository productImageRepository,
+                                  ArticleRepository articleRepository,
+                                  ArticleDetailCache articleDetailCache,
+                                  ImageDeleteOutboxService imageDeleteOutboxService,
+                                  TransactionTemplate transactionTemplate,
+                                  ThreadPoolTaskExecutor imageDerivativeExecutor,
+                                  @Value("${ncp.objectstorage.bucket}") String bucket,
+                                  @Value("${image.derivative.jpeg-quality:0.8}") float jpegQuality) {
+        this.amazonS3 = amazonS3;
+        this.productImageRepository = productImageRepository;
+        this.articleRepository = articleRepository;
+        this.articleDetailCache = articleDetailCache;
+        this.imageDeleteOutboxService = imageDeleteOutboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.imageDerivativeExecutor = imageDerivativeExecutor;
+        this.bucket = bucket;
+        this.jpegQuality = jpegQuality;
+    }
+
+    // 이미지 행이 커밋된 뒤에 생성 작업을 넘김 (롤백되면 만들지 않음)
+    public void generateAfterCommit(Collection<Long> productImageIds) {
+        if (productImageIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(productImageIds);
+        Runnable submit = () -> ids.forEach(id -> imageDerivativeExecutor.execute(() -> generate(id)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    private void generate(Long productImageId) {
+        ProductImage productImage = productImageRepository.findById(productImageId).orElse(null);
+        if (productImage == null) {
+            return;
+        }
+
+        String original = productImage.getImageUrl();
+        Map<ImageDerivative, String> uploaded = new EnumMap<>(ImageDerivative.class);
+
+        // 같은 사진 (내용 해시 파일명) 의 파생 이미지가 이미 있으면 만들지 않고 그대로 기록
+        // 기록만 보고 쓰지 않음, 원본이 한 번 삭제됐다가 다시 올라온 경우 기록은 남아 있어도 객체는 없을 수 있음
+        if (productImageRepository.findFirstByImageUrlAndCardUrlIsNotNull(original).isPresent() && derivativesExist(original)) {
+            for (ImageDerivative derivative : ImageDerivative.values()) {
+                uploaded.put(derivative, derivative.fileName(original));
+            }
+            transactionTemplate.execute(status -> record(productImageId, uploaded));
+            return;
+        }
+
+        try {
+            BufferedImage source = read("article/" + original);
+            for (ImageDerivative derivative : ImageDerivative.values()) {
+                String fileName = derivative.fileName(original);
+                upload("article/" + fileName, resize(source, derivative.getMaxSize()));
+                uploaded.put(derivative, fileName);
+            }
+        } catch (IOException | RuntimeException e) {
+            // 올라간 일부는 같은 사진을 쓰는 다른 이미지의 것일 수 있어서 남김 (원본 삭제 때 함께 지워짐)
+            log.warn("파생 이미지 생성 실패: productImageId={}", productImageId, e);
+            enqueueIfUnreferenced(original);
+            return;
+        }
+
+        Boolean recorded = transactionTemplate.execute(status -> record(productImageId, uploaded));
+        if (!Boolean.TRUE.equals(recorded)) {
+            enqueueIfUnreferenced(original);
+        }
+    }
+
+    private boolean derivativesExist(String original) {
+        for (ImageDerivative derivative : ImageDerivative.values()) {
+            if (!amazonS3.doesObjectExist(bucket, "article/" + derivative.fileName(original))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 만드는 사이에 이 사진을 쓰던 이미지가 모두 삭제됐으면, 워커가 이미 지운 뒤에 올라간 파생 이미지가 남지 않도록 다시 삭제를 기록
+    // 워커는 지우기 직전에 참조를 다시 확인하므로 그 사이 같은 사진이 다시 쓰이면 남김
+    private void enqueueIfUnreferenced(String original) {
+        if (!productImageRepository.existsByImageUrl(original)) {
+            imageDeleteOutboxService.enqueue(List.of(original));
+        }
+    }
+
+    private boolean record(Long productImageId, Map<ImageDerivative, String> uploaded) {
+        String cardUrl = uploaded.get(ImageDerivative.CARD);
+        int updated = productImageRepository.updateDerivatives(productImageId,
+                cardUrl, uploaded.get(ImageDerivative.DETAIL), uploaded.get(ImageDerivative.AVATAR));
+        if (updated == 0) {
+            return false;
+        }
+
+        // 대표 이미지면 게시글 대표 썸네일을 목록 카드 크기로 교체
+        ProductImage productImage = productImageRepository.findById(productImageId).orElseThrow();
+        Long articleId = productImage.getArticle().getId();
+        if (productImage.getThumbnailUrl() != null) {
+            articleRepository.replaceThumbnailUrl(articleId, productImage.getThumbnailUrl(), cardUrl);
+        }
+        // 상세 이미지 목록과 대표 썸네일이 바뀜
+        articleDetailCache.evictAfterCommit(articleId);
+        return true;
+    }
+
+    // EXIF 회전을 반영해서 한 번만 디코딩
+    private BufferedImage read(String objectKey) throws IOException {
+        try (S3Object object = amazonS3.getObject(bucket, objectKey);
+             InputStream in = object.getObjectContent()) {
+            return toRgb(Thumbnails.of(in).scale(1.0).asBufferedImage());
+        }
+    }
+
+    private byte[] resize(BufferedImage source, int maxSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(source);
+        if (Math.max(source.getWidth(), source.getHeight()) > maxSize) {
+            builder.size(maxSize, maxSize);
+        } else {
+            builder.scale(1.0);
+        }
+        builder.outputFormat("jpg").outputQuality(jpegQuality).toOutputStream(out);
+        return out.toByteArray();
+    }
+
+    private void upload(String objectKey, byte[] bytes) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType("image/jpeg");
+        amazonS3.putObject(new PutObjectRequest(bucket, objectKey, new ByteArrayInputStream(bytes), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    // JPEG 는 투명도를 담지 못하므로 흰 배경에 합성
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+}
@@ -2,61 +2,221 @@ package org.duckdns.bidbuy.app.article.service;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+@Slf4j
 @Service
 public class ImageUploadService {
 
     @Autowired
     private AmazonS3 amazonS3;
 
+    @Autowired
+    private ThreadPoolTaskExecutor imageUploadExecutor;
+
+    @Autowired
+    private ImageDeleteOutboxService imageDeleteOutboxService;
+
+
     @Value("${ncp.objectstorage.bucket}")
     private String bucket;
 
+    // 프로필 이미지, 매번 새 파일명 (uuid)
     public List<Map<String, String>> uploadImages(MultipartFile[] multipartFiles) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        for (MultipartFile multipartFile : multipartFiles) {
+            fileNames.add(generateFileName(multipartFile.getOriginalFilename()));
+        }
+        return upload(multipartFiles, fileNames, false);
+    }
+
+    // 게시글 이미지, 내용의 SHA-256 을 파일명으로 써서 같은 사진은 객체 하나 (파생 이미지 한 벌) 만 저장
+    // 이미 저장돼 있는 사진은 다시 올리지 않음, 객체는 마지막으로 참조하던 ProductImage 가 지워진 뒤 삭제 (ImageDeleteOutboxService)
+    // 트랜잭션 밖에서 호출, 올리기 전에 claim 을 커밋해서 삭제 워커가 이 사진을 지우지 않게 함
+    // 호출한 쪽은 이미지 행을 저장하는 트랜잭션에서 claim 을 풀고 (release), 실패하면 abandon 으로 넘긴다
+    public ArticleImages uploadArticleImages(MultipartFile[] multipartFiles) throws IOException {
+        List<CompletableFuture<String>> hashes = new ArrayList<>();
+        for (MultipartFile multipartFile : multipartFiles) {
+            hashes.add(CompletableFuture.supplyAsync(() -> contentFileName(multipartFile), imageUploadExecutor));
+        }
+        await(hashes);
+        List<String> fileNames = hashes.stream().map(CompletableFuture::join).toList();
+
+        List<Long> claimIds = imageDeleteOutboxService.claim(fileNames);
+        try {
+            imageDeleteOutboxService.awaitDeleting(fileNames);
+            return new ArticleImages(upload(multipartFiles, fileNames, true), claimIds);
+        } catch (IOException | RuntimeException e) {
+            abandonQuietly(fileNames, claimIds);
+            throw e;
+        }
+    }
+
+    // 올린 게시글 이미지 (파일 순서대로 original/thumbnail) 와 풀어야 할 claim
+    public record ArticleImages(List<Map<String, String>> imageUrlMaps, List<Long> claimIds) {
+
+        public static ArticleImages none() {
+            return new ArticleImages(List.of(), List.of());
+        }
+
+        public List<String> originals() {
+            return imageUrlMaps.stream().map(imageUrlMap -> imageUrlMap.get("original")).toList();
+        }
+    }
+
+    // 원본과 첫 번째 이미지의 썸네일을 업로드 풀에서 동시에 올림, 반환 목록은 파일 순서 그대로
+    // 하나라도 실패하면 나머지가 끝나길 기다렸다가 정리하고 예외를 던진다
+    // - 프로필 이미지 (uuid) 는 이번에 올린 객체만 바로 지움
+    // - 게시글 이미지 (내용 해시) 는 다른 게시글이 같은 객체를 쓰고 있을 수 있어서 호출한 쪽이 삭제 outbox 로 넘김 (참조가 없을 때만 지워짐)
+    private List<Map<String, String>> upload(MultipartFile[] multipartFiles, List<String> fileNames, boolean skipExisting) throws IOException {
         List<Map<String, String>> imageUrlMaps = new ArrayList<>();
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        Queue<String> uploadedKeys = new ConcurrentLinkedQueue<>();
+        Set<String> scheduledKeys = new HashSet<>();
+
         for (int i = 0; i < multipartFiles.length; i++) {
             MultipartFile multipartFile = multipartFiles[i];
-            File originalFile = convertMultiPartToFile(multipartFile);
-            String originalFileName = "article/" + generateFileName(multipartFile.getOriginalFilename());
+            String fileName = fileNames.get(i);
 
             Map<String, String> imageUrlMap = new HashMap<>();
-            imageUrlMap.put("original", originalFileName.substring(originalFileName.lastIndexOf("/") + 1));
+            imageUrlMap.put("original", fileName);
 
             // 첫 번째 이미지인 경우에만 썸네일 생성
             if (i == 0) {
-                File thumbnailFile = new File("s_" + originalFile.getName());
-                Thumbnails.of(originalFile).size(600, 600).toFile(thumbnailFile);
-                String thumbnailFileName = "article/s_" + originalFileName.substring(originalFileName.lastIndexOf("/") + 1);
-                amazonS3.putObject(new PutObjectRequest(bucket, thumbnailFileName, thumbnailFile).withCannedAcl(CannedAccessControlList.PublicRead));
-                imageUrlMap.put("thumbnail", thumbnailFileName.substring(thumbnailFileName.lastIndexOf("/") + 1));
-                thumbnailFile.delete();
+                String thumbnailKey = "article/s_" + fileName;
+                scheduledKeys.add(thumbnailKey);
+                uploads.add(submit(() -> uploadThumbnail(multipartFile, thumbnailKey), thumbnailKey, skipExisting, uploadedKeys));
+                imageUrlMap.put("thumbnail", "s_" + fileName);
+            }
+            // 같은 요청 안에서 같은 사진이 두 번 오면 한 번만 올림
+            String originalKey = "article/" + fileName;
+            if (scheduledKeys.add(originalKey)) {
+                uploads.add(submit(() -> uploadOriginal(multipartFile, originalKey), originalKey, skipExisting, uploadedKeys));
             }
-
-            amazonS3.putObject(new PutObjectRequest(bucket, originalFileName, originalFile).withCannedAcl(CannedAccessControlList.PublicRead));
-            originalFile.delete();
 
             imageUrlMaps.add(imageUrlMap);
         }
+
+        try {
+            await(uploads);
+        } catch (IOException | RuntimeException e) {
+            // allOf 는 모든 작업이 끝난 뒤에 완료되므로 정리 이후에 올라가는 객체는 없음
+            if (!skipExisting) {
+                uploadedKeys.forEach(this::deleteObjectQuietly);
+            }
+            throw e;
+        }
         return imageUrlMaps;
     }
 
-    private File convertMultiPartToFile(MultipartFile file) throws IOException {
-        File convFile = new File(file.getOriginalFilename());
-        FileOutputStream fos = new FileOutputStream(convFile);
-        fos.write(file.getBytes());
-        fos.close();
-        return convFile;
+    private String contentFileName(MultipartFile multipartFile) {
+        try (InputStream in = multipartFile.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return "sha256_" + HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(List<? extends CompletableFuture<?>> futures) throws IOException {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("이미지 업로드 실패", cause);
+        }
+    }
+
+    private CompletableFuture<Void> submit(ImageUpload upload, String objectKey, boolean skipExisting, Queue<String> uploadedKeys) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                if (skipExisting && amazonS3.doesObjectExist(bucket, objectKey)) {
+                    return;
+                }
+                upload.run();
+                uploadedKeys.add(objectKey);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, imageUploadExecutor);
+    }
+
+    // 업로드 스트림을 그대로 전송 (작업 디렉터리에 임시 파일을 만들지 않고, 힙에 전체를 올리지 않음)
+    private void uploadOriginal(MultipartFile multipartFile, String objectKey) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(multipartFile.getSize());
+        metadata.setContentType(multipartFile.getContentType());
+        try (InputStream in = multipartFile.getInputStream()) {
+            amazonS3.putObject(new PutObjectRequest(bucket, objectKey, in, metadata).withCannedAcl(CannedAccessControlList.PublicRead));
+        }
+    }
+
+    // 업로드 스트림에서 한 번 디코딩해서 메모리에서 썸네일을 만들고 전송 (원본과 같은 형식)
+    private void uploadThumbnail(MultipartFile multipartFile, String objectKey) throws IOException {
+        ByteArrayOutputStream thumbnail = new ByteArrayOutputStream();
+        try (InputStream in = multipartFile.getInputStream()) {
+            Thumbnails.of(in).size(600, 600).toOutputStream(thumbnail);
+        }
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(thumbnail.size());
+        metadata.setContentType(multipartFile.getContentType());
+        amazonS3.putObject(new PutObjectRequest(bucket, objectKey, new ByteArrayInputStream(thumbnail.toByteArray()), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private void deleteObjectQuietly(String objectKey) {
+        try {
+            amazonS3.deleteObject(bucket, objectKey);
+        } catch (RuntimeException e) {
+            log.warn("업로드 정리 실패: key={}", objectKey, e);
+        }
+    }
+
+    private void abandonQuietly(List<String> fileNames, List<Long> claimIds) {
+        try {
+            imageDeleteOutboxService.abandon(fileNames, claimIds);
+        } catch (RuntimeException e) {
+            log.warn("업로드 정리 기록 실패: fileNames={}", fileNames, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ImageUpload {
+        void run() throws IOException;
     }
 
     public void deleteImage(String imageUrl) {
@@ -0,0 +1,66 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import lombok.RequiredArgsConstructor;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.article.repository.LikeArticleRepository;
+import org.duckdns.bidbuy.app.user.exception.ForbiddenException;
+import org.duckdns.bidbuy.app.user.exception.NotLoggedInException;
+import org.duckdns.bidbuy.app.user.service.UserStatsService;
+import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 찜 토글 (게시글 상세의 좋아요, 마이페이지 찜하기 공통)
+// (article_id, user_id) 유니크 제약 위에서 삭제 -> 없으면 INSERT IGNORE 로 처리하고,
+// 실제로 바뀐 행이 있을 때만 like_count 를 SQL 로 +1/-1 해서 동시 요청에도 개수가 어긋나지 않게 한다
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LikeArticleService {
+
+    private final LikeArticleRepository likeArticleRepository;
+    private final ArticleRepository articleRepository;
+    private final UserStatsService userStatsService;
+    private final ArticleDetailCache articleDetailCache;
+
+    public String toggle(Long articleId) {
+        var principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = null;
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            userId = customUserDetails.getUser().getId();
+        }else if(principal instanceof String) {
+            throw new NotLoggedInException("찜하려면 로그인 하세요");
+        }
+
+        return toggle(articleId, userId) ? "상품을 찜목록에 등록했습니다." : "찜한 상품을 목록에서 제거했습니다.";
+    }
+
+    // true: 찜 등록, false: 찜 해제
+    public boolean toggle(Long articleId, Long userId) {
+        Long writerId = articleRepository.findWriterIdById(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
+        if (writerId.equals(userId)) {
+            throw new ForbiddenException("본인의 게시글는 찜할 수 없습니다.");
+        }
+
+        if (likeArticleRepository.deleteLike(articleId, userId) > 0) {
+            articleRepository.addLikeCount(articleId, -1L);
+            userStatsService.add(userId, UserStatsService.Counter.LIKE, -1);
+            articleDetailCache.evictAfterCommit(articleId);
+            return false;
+        }
+
+        // 같은 유저의 동시 요청으로 이미 들어간 경우 0 건, 개수는 그대로
+        LocalDateTime now = LocalDateTime.now();
+        if (likeArticleRepository.insertIgnore(articleId, userId, now) > 0) {
+            articleRepository.addLikeCount(articleId, 1L);
+            userStatsService.add(userId, UserStatsService.Counter.LIKE, 1);
+            articleDetailCache.evictAfterCommit(articleId);
+        }
+        return true;
+    }
+}
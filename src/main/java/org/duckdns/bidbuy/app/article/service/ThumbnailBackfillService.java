@@ -0,0 +1,31 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// thumbnail_url, cover_image_id 가 비어 있는 기존 게시글에 대표 이미지를 각각 한 번의 UPDATE 로 채움
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailBackfillService {
+
+    private final ArticleRepository articleRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int articles = articleRepository.backfillThumbnailUrl();
+        if (articles > 0) {
+            log.info("thumbnail_url 채움: 게시글 {}건", articles);
+        }
+        int covers = articleRepository.backfillCoverImageId();
+        if (covers > 0) {
+            log.info("cover_image_id 채움: 게시글 {}건", covers);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 write-behind 카운터
+// 상세 조회마다 article 행을 UPDATE 하지 않고 메모리(게시글별 LongAdder)에 모았다가 주기적으로 한 번에 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE article SET view_count = view_count + ? WHERE article_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long articleId) {
+        pending.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수
+    public long pendingCount(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> articleIds = new ArrayList<>();
+        List<LongAdder> adders = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Long articleId : pending.keySet()) {
+            LongAdder adder = pending.remove(articleId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sum();
+            articleIds.add(articleId);
+            adders.add(adder);
+            batch.add(new Object[]{delta, articleId});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (RuntimeException e) {
+            // 반영 실패시 다음 주기에 다시 시도
+            log.warn("조회수 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+            for (int i = 0; i < articleIds.size(); i++) {
+                pending.computeIfAbsent(articleIds.get(i), id -> new LongAdder()).add(adders.get(i).sum());
+            }
+            return;
+        }
+
+        // 꺼내는 사이에 이전 LongAdder 에 더해진 조회수는 다음 주기로 넘김
+        for (int i = 0; i < articleIds.size(); i++) {
+            long late = adders.get(i).sum() - (Long) batch.get(i)[0];
+            if (late > 0) {
+                pending.computeIfAbsent(articleIds.get(i), id -> new LongAdder()).add(late);
+            }
+        }
+    }
+
+    // 종료시 남은 조회수를 모두 반영
+    @PreDestroy
+    public void drain() {
+        flush();
+        if (!pending.isEmpty()) {
+            flush();
+        }
+    }
+}
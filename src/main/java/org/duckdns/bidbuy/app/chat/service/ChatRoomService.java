@@ -16,7 +16,6 @@ import org.duckdns.bidbuy.app.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Slf4j
 @Service
@@ -51,13 +50,20 @@ public class ChatRoomService {
     public ChatPostDetailResponse getChatPostDetail(Long chatRoomId) {
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId).orElseThrow(() -> new IllegalArgumentException("채팅방이 없습니다."));
         Article article = articleRepository.findById(chatRoom.getArticleId().getId()).orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
-        List<ProductImage> productImage = productImageRepository.findByArticle(article).stream().filter(a->a.getThumbnailUrl()!=null).toList();
+
+        // 채팅방 상단 상품 이미지는 아바타 크기 파생 이미지, 아직 만들어지지 않았으면 대표 썸네일
+        String productImageUrl = productImageRepository.findFirstByArticleIdAndThumbnailUrlIsNotNullOrderByIdAsc(article.getId())
+                .map(ProductImage::getAvatarUrl)
+                .orElse(article.getThumbnailUrl());
+        if (productImageUrl == null) {
+            productImageUrl = article.getThumbnailUrl();
+        }
 
         return ChatPostDetailResponse.builder()
                 .articleId(chatRoom.getArticleId().getId())
                 .title(article.getTitle())
                 .content(article.getContent())
-                .ProductImageUrl(productImage.get(0).getThumbnailUrl())
+                .ProductImageUrl(productImageUrl)
                 .tradeStatus(article.getTradeStatus())
                 .writerId(article.getWriter().getId())
                 .writerName(article.getWriter().getUsername())
@@ -0,0 +1,124 @@
+package org.duckdns.bidbuy.app.offer.book;
+
+import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 게시글 하나의 제안을 가격순으로 들고 있는 메모리 호가창
+// 쓰기(add/remove/select)는 호가창 단위로 직렬화하고, 읽기는 잠금 없이 동시 자료구조에서 바로 읽는다
+// 쓰기는 같은 제안이 두 번 들어와도 결과가 같도록 (멱등) 처리한다
+public class OfferBook {
+
+    // 가격 오름차순, 같은 가격이면 먼저 들어온 제안 (id) 순
+    private record OfferKey(int price, long offerId) {
+    }
+
+    private static final Comparator<OfferKey> PRICE_ORDER =
+            Comparator.comparingInt(OfferKey::price).thenComparingLong(OfferKey::offerId);
+
+    private final Long articleId;
+    private final ConcurrentSkipListMap<OfferKey, OfferResponse> byPrice = new ConcurrentSkipListMap<>(PRICE_ORDER);
+    private final Map<Long, OfferKey> keysById = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<OfferKey>> keysByOfferer = new ConcurrentHashMap<>();
+
+    private volatile int count;
+    private final long loadedAt = System.currentTimeMillis();
+
+    private OfferBook(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public static OfferBook of(Long articleId, List<OfferResponse> offers) {
+        OfferBook book = new OfferBook(articleId);
+        offers.forEach(book::add);
+        return book;
+    }
+
+    public synchronized void add(OfferResponse offer) {
+        if (keysById.containsKey(offer.getId())) {
+            return;
+        }
+        OfferKey key = new OfferKey(offer.getOfferPrice(), offer.getId());
+        byPrice.put(key, offer);
+        keysById.put(offer.getId(), key);
+        keysByOfferer.computeIfAbsent(offer.getOffererId(), id -> new ConcurrentSkipListSet<>(PRICE_ORDER)).add(key);
+        count++;
+    }
+
+    public synchronized void remove(Long offerId) {
+        OfferKey key = keysById.remove(offerId);
+        if (key == null) {
+            return;
+        }
+        OfferResponse offer = byPrice.remove(key);
+        NavigableSet<OfferKey> keys = keysByOfferer.get(offer.getOffererId());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByOfferer.remove(offer.getOffererId());
+            }
+        }
+        count--;
+    }
+
+    // 수락/수락 취소, 공유 중인 응답 객체는 바꾸지 않고 새로 만들어 교체
+    public synchronized void select(Long offerId, boolean selected) {
+        OfferKey key = keysById.get(offerId);
+        if (key == null) {
+            return;
+        }
+        OfferResponse offer = byPrice.get(key);
+        byPrice.put(key, new OfferResponse(offer.getId(), offer.getArticleId(), offer.getOffererId(), offer.getOffererUsername(),
+                offer.getOffererAddr1(), offer.getOffererAddr2(), offer.getCreatedDate(), offer.getOfferPrice(), selected));
+    }
+
+    // 가격 오름차순 전체 목록
+    public List<OfferResponse> offers() {
+        return new ArrayList<>(byPrice.values());
+    }
+
+    public OfferResponse lowest() {
+        Map.Entry<OfferKey, OfferResponse> entry = byPrice.firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    public OfferResponse highest() {
+        Map.Entry<OfferKey, OfferResponse> entry = byPrice.lastEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    public int count() {
+        return count;
+    }
+
+    // 유저가 이 게시글에 낸 제안 (가격 오름차순)
+    public List<OfferResponse> offersOf(Long offererId) {
+        NavigableSet<OfferKey> keys = keysByOfferer.get(offererId);
+        List<OfferResponse> offers = new ArrayList<>();
+        if (keys != null) {
+            for (OfferKey key : keys) {
+                OfferResponse offer = byPrice.get(key);
+                if (offer != null) {
+                    offers.add(offer);
+                }
+            }
+        }
+        return offers;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    // 조회 여부와 상관없이 적재 후 maxAgeMs 가 지나면 다시 읽는다 (다른 서버의 제안 반영, 놓친 반영 보정)
+    boolean isOlderThan(long now, long maxAgeMs) {
+        return loadedAt + maxAgeMs <= now;
+    }
+}
@@ -0,0 +1,146 @@
+package org.duckdns.bidbuy.app.offer.book;
+
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.event.ArticleChangedEvent;
+import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
+import org.duckdns.bidbuy.app.offer.repository.OfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+// 판매 중인 게시글의 호가창 (OfferBook) 모음
+// 처음 조회할 때 DB 에서 읽어 만들고, 이후 제안 등록/취소/수락은 커밋 후 호가창에 바로 반영한다
+// 이 서버에서 커밋된 변경만 바로 반영되므로, 호가창은 적재 후 max-age 가 지나면 조회 여부와 상관없이 다시 읽는다
+// 판매 완료/삭제된 게시글의 호가창은 비운다
+@Component
+public class OfferBookRegistry {
+
+    // 게시글 id 별 변경 버전 (id 해시로 나눈 칸), 적재하는 동안 변경이 있었으면 읽은 호가창을 담지 않는다
+    private static final int VERSION_STRIPES = 4096;
+
+    private final OfferRepository offerRepository;
+    private final TransactionTemplate loadTransaction;
+    private final long maxAgeMs;
+    private final int maxSize;
+
+    private final Map<Long, OfferBook> books = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public OfferBookRegistry(OfferRepository offerRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${offer.book.max-age-ms:60000}") long maxAgeMs,
+                             @Value("${offer.book.max-size:10000}") int maxSize) {
+        this.offerRepository = offerRepository;
+        // 호출한 트랜잭션의 (REPEATABLE READ) 스냅샷이 아니라 버전을 읽은 뒤의 새 스냅샷에서 읽도록 별도 트랜잭션
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.maxAgeMs = maxAgeMs;
+        this.maxSize = maxSize;
+    }
+
+    // 적재는 맵 잠금 밖에서 하고 (느린 쿼리가 같은 버킷의 다른 게시글 반영을 막지 않도록), 담기 직전에 버전으로 확인
+    // 적재 중에 이 게시글의 변경이 커밋됐으면 읽은 호가창은 이번 요청에만 쓰고 담지 않는다 (다음 조회에서 다시 읽음)
+    public OfferBook book(Long articleId) {
+        OfferBook book = books.get(articleId);
+        if (book != null && !book.isOlderThan(System.currentTimeMillis(), maxAgeMs)) {
+            return book;
+        }
+
+        int stripe = stripe(articleId);
+        long version = versions.get(stripe);
+        OfferBook loaded = load(articleId);
+
+        // 가득 차 있으면 새로 담지 않고 읽은 호가창을 그대로 씀 (오래된 호가창 교체는 허용)
+        if (book != null || books.size() < maxSize) {
+            books.compute(articleId, (id, current) -> {
+                if (versions.get(stripe) != version) {
+                    return current == book ? null : current;
+                }
+                return current == null || current == book ? loaded : current;
+            });
+        }
+        return loaded;
+    }
+
+    // 제안 등록
+    public void addAfterCommit(OfferResponse offer) {
+        afterCommit(() -> apply(offer.getArticleId(), book -> {
+            book.add(offer);
+            return book;
+        }));
+    }
+
+    // 제안 취소
+    public void removeAfterCommit(Long articleId, Long offerId) {
+        afterCommit(() -> apply(articleId, book -> {
+            book.remove(offerId);
+            return book;
+        }));
+    }
+
+    // 제안 수락/수락 취소
+    public void selectAfterCommit(Long articleId, Long offerId, boolean selected) {
+        afterCommit(() -> apply(articleId, book -> {
+            book.select(offerId, selected);
+            return book;
+        }));
+    }
+
+    // 판매 완료되거나 삭제된 게시글은 더 이상 제안을 받지 않으므로 비움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getAfter() == null || event.getAfter().getTradeStatus() == TradeStatus.SOLD_OUT) {
+            apply(event.getArticleId(), book -> null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${offer.book.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        books.values().removeIf(book -> book.isOlderThan(now, maxAgeMs));
+    }
+
+    // 버전 증가와 반영을 같은 compute 안에서 해서 book() 의 담기와 순서가 정해지도록 함
+    // 호가창이 없어도 버전은 올림 (적재 중인 호가창이 이 변경을 놓쳤을 수 있음)
+    private void apply(Long articleId, UnaryOperator<OfferBook> change) {
+        books.compute(articleId, (id, book) -> {
+            versions.incrementAndGet(stripe(id));
+            return book == null ? null : change.apply(book);
+        });
+    }
+
+    private OfferBook load(Long articleId) {
+        return loadTransaction.execute(status -> OfferBook.of(articleId, offerRepository.findOfferResponsesByArticleId(articleId)));
+    }
+
+    private int stripe(Long articleId) {
+        return (Long.hashCode(articleId) & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    // 트랜잭션 안이면 커밋 후, 아니면 바로 반영
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
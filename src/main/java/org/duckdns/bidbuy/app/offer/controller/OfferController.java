@@ -5,8 +5,10 @@ import lombok.RequiredArgsConstructor;
 import org.duckdns.bidbuy.app.offer.dto.OfferAcceptResponse;
 import org.duckdns.bidbuy.app.offer.dto.OfferRequest;
 import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
+import org.duckdns.bidbuy.app.offer.dto.OfferSummaryResponse;
 import org.duckdns.bidbuy.app.offer.service.OfferService;
 import org.duckdns.bidbuy.global.common.response.ApiResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,6 +27,14 @@ public class OfferController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "게시글 호가 요약 API", description = "제안 수, 최저/최고 제안, 로그인한 사용자의 제안")
+    @GetMapping(value = "/{articleId}/summary", consumes = MediaType.ALL_VALUE)
+    public ResponseEntity<ApiResponse<OfferSummaryResponse>> getOfferSummary(@PathVariable Long articleId) {
+        OfferSummaryResponse responseDTO = offerService.getOfferSummary(articleId);
+        ApiResponse<OfferSummaryResponse> response = new ApiResponse<>("200", "호가 요약 조회 성공", responseDTO);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "게시글에 대한 가격 제안 수락 API", description = "로그인한 사용자 중 해당 게시글 작성자만 제안 수락 가능")
     @PutMapping(value = "/{articleId}/{offerId}")
     public ResponseEntity<ApiResponse<OfferAcceptResponse>> acceptOffer(@PathVariable Long offerId, @PathVariable Long articleId) {
@@ -17,7 +17,9 @@ import org.duckdns.bidbuy.global.common.entity.BaseEntity;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString(callSuper = true)
-@Table(name ="offer")
+@Table(name ="offer", indexes = {
+        @Index(name = "idx_offer_article_price", columnList = "article_id, price")
+})
 public class Offer extends BaseEntity {
 
     @Id
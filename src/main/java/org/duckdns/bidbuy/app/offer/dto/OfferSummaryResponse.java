@@ -0,0 +1,20 @@
+package org.duckdns.bidbuy.app.offer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 게시글 호가 요약 (제안 수, 최저/최고 제안, 로그인 유저의 제안)
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class OfferSummaryResponse {
+
+    private int offerCount;
+    private OfferResponse lowestOffer;
+    private OfferResponse highestOffer;
+    private List<OfferResponse> myOffers;
+
+}
@@ -1,6 +1,7 @@
 package org.duckdns.bidbuy.app.offer.repository;
 
 import org.duckdns.bidbuy.app.offer.domain.Offer;
+import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,7 +14,16 @@ public interface OfferRepository extends JpaRepository<Offer, Long> {
     @Query("SELECT COUNT(DISTINCT o.article.id) FROM Offer o WHERE o.offerer.id = :id")
     int countByOfferer_id(Long id);
 
-    List<Offer> findByArticleId(Long articleId);
+    // 게시글의 제안 목록, 제안자를 JOIN 해서 한 번에 조회하고 가격 오름차순 정렬은 DB 에서 처리
+    @Query("""
+            SELECT new org.duckdns.bidbuy.app.offer.dto.OfferResponse(
+                o.id, o.article.id, u.id, u.username, u.addr1, u.addr2, o.createdDate, o.price, o.isSelected)
+            FROM Offer o
+            JOIN o.offerer u
+            WHERE o.article.id = :articleId
+            ORDER BY o.price ASC, o.id ASC
+            """)
+    List<OfferResponse> findOfferResponsesByArticleId(@Param("articleId") Long articleId);
 
     @Query("""
             SELECT COUNT(o)
@@ -37,4 +47,15 @@ public interface OfferRepository extends JpaRepository<Offer, Long> {
     Offer findByIsSelectedTrueAndOfferer_Id(Long userId, Long articleId);
 
     void deleteByArticleId(Long articleId);
+
+    boolean existsByArticle_IdAndOfferer_Id(Long articleId, Long offererId);
+
+    @Query("SELECT DISTINCT o.article.id FROM Offer o WHERE o.offerer.id = :offererId")
+    List<Long> findArticleIdsByOffererId(@Param("offererId") Long offererId);
+
+    @Query("SELECT DISTINCT o.offerer.id FROM Offer o WHERE o.article.id = :articleId")
+    List<Long> findOffererIdsByArticleId(@Param("articleId") Long articleId);
+
+    @Query("SELECT o.offerer.id FROM Offer o WHERE o.article.id = :articleId AND o.isSelected = true")
+    List<Long> findSelectedOffererIdsByArticleId(@Param("articleId") Long articleId);
 }
@@ -1,27 +1,34 @@
 package org.duckdns.bidbuy.app.offer.service;
 
 import lombok.RequiredArgsConstructor;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
 import org.duckdns.bidbuy.app.article.domain.Article;
 import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.event.ArticleChangedEvent;
+import org.duckdns.bidbuy.app.article.event.ArticleSnapshot;
 import org.duckdns.bidbuy.app.article.exception.ArticleNotExistException;
 import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.offer.book.OfferBook;
+import org.duckdns.bidbuy.app.offer.book.OfferBookRegistry;
 import org.duckdns.bidbuy.app.offer.domain.Offer;
 import org.duckdns.bidbuy.app.offer.dto.OfferAcceptResponse;
 import org.duckdns.bidbuy.app.offer.dto.OfferRequest;
 import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
+import org.duckdns.bidbuy.app.offer.dto.OfferSummaryResponse;
 import org.duckdns.bidbuy.app.offer.exception.OfferExceedException;
 import org.duckdns.bidbuy.app.offer.exception.OffererNotFoundException;
 import org.duckdns.bidbuy.app.offer.repository.OfferRepository;
 import org.duckdns.bidbuy.app.user.domain.User;
 import org.duckdns.bidbuy.app.user.repository.UserRepository;
+import org.duckdns.bidbuy.app.user.service.UserStatsService;
 import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,13 +38,18 @@ public class OfferService {
     private final OfferRepository offerRepository;
     private final UserRepository userRepository;
     private final ArticleRepository articleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+    private final ArticleDetailCache articleDetailCache;
+    private final OfferBookRegistry offerBookRegistry;
 
     //게시글에 대한 가격 제안
     public OfferResponse createOffer(Long articleId, OfferRequest requestDTO) {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long offererId = principal.getUser().getId();
 
-        User offerer = userRepository.findById(offererId).orElseThrow(() -> new OffererNotFoundException(offererId));
+        // 제안자 행을 잠가 같은 유저의 등록/취소를 줄 세움 (아래 처음 제안 여부 확인과 INSERT 가 끼어들지 않도록)
+        User offerer = userRepository.findByIdForUpdate(offererId).orElseThrow(() -> new OffererNotFoundException(offererId));
         Article article = articleRepository.findById(articleId).orElseThrow(() -> new ArticleNotExistException(articleId));
 
         //게시글의 가격보다 높은 가격에는 제안할 수 없음
@@ -45,6 +57,9 @@ public class OfferService {
             throw new OfferExceedException(article.getPrice());
         }
 
+        // 제안 개수는 제안한 게시글 수 기준, 이 게시글에 처음 제안할 때만 +1
+        boolean firstOffer = !offerRepository.existsByArticle_IdAndOfferer_Id(articleId, offererId);
+
         Offer offer = Offer.builder()
                 .price(requestDTO.getPrice())
                 .createdDate(LocalDateTime.now())
@@ -55,8 +70,12 @@ public class OfferService {
                 .build();
 
         offerRepository.save(offer);
+        if (firstOffer) {
+            userStatsService.add(offererId, UserStatsService.Counter.OFFER, 1);
+        }
+        articleDetailCache.evictAfterCommit(articleId);
 
-        return new OfferResponse(
+        OfferResponse response = new OfferResponse(
                 offer.getId(),
                 offer.getArticle().getId(),
                 offer.getOfferer().getId(),
@@ -67,23 +86,36 @@ public class OfferService {
                 offer.getPrice(),
                 offer.isSelected()
         );
+        offerBookRegistry.addAfterCommit(response);
 
+        return response;
     }
 
+    // 가격 오름차순, 판매 중인 게시글은 메모리 호가창에서 읽음
+    @Transactional(readOnly = true)
     public List<OfferResponse> getOffersByArticleId(Long articleId) {
-        List<Offer> offers = offerRepository.findByArticleId(articleId);
+        return offerBookRegistry.book(articleId).offers();
+    }
 
-        return offers.stream().map(offer -> new OfferResponse(
-                offer.getId(),
-                offer.getArticle().getId(),
-                offer.getOfferer().getId(),
-                offer.getOfferer().getUsername(),
-                offer.getOfferer().getAddr1(),
-                offer.getOfferer().getAddr2(),
-                offer.getCreatedDate(),
-                offer.getPrice(),
-                offer.isSelected()
-        )).collect(Collectors.toList());
+    // 판매 완료된 게시글은 호가창을 만들지 않고 DB 에서 바로 읽음
+    @Transactional(readOnly = true)
+    public List<OfferResponse> getOffersByArticleId(Long articleId, TradeStatus tradeStatus) {
+        if (tradeStatus == TradeStatus.SOLD_OUT) {
+            return offerRepository.findOfferResponsesByArticleId(articleId);
+        }
+        return getOffersByArticleId(articleId);
+    }
+
+    // 제안 수, 최저/최고 제안, 로그인 유저의 제안
+    @Transactional(readOnly = true)
+    public OfferSummaryResponse getOfferSummary(Long articleId) {
+        OfferBook book = offerBookRegistry.book(articleId);
+        List<OfferResponse> myOffers = List.of();
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails userDetails) {
+            myOffers = book.offersOf(userDetails.getUser().getId());
+        }
+        return new OfferSummaryResponse(book.count(), book.lowest(), book.highest(), myOffers);
     }
 
     //게시글에 대한 가격 제안 수락
@@ -110,8 +142,10 @@ public class OfferService {
                 .build();
 
         offerRepository.save(updatedOffer);
+        offerBookRegistry.selectAfterCommit(articleId, offerId, true);
 
         Article article = offer.getArticle();
+        ArticleSnapshot before = ArticleSnapshot.from(article);
         article = Article.builder()
                 .id(articleId)
                 .title(article.getTitle())
@@ -126,11 +160,15 @@ public class OfferService {
                 .viewCount(article.getViewCount())
                 .addr1(article.getAddr1())
                 .addr2(article.getAddr2())
+                .regionId(article.getRegionId())
+                .thumbnailUrl(article.getThumbnailUrl())
+                .coverImageId(article.getCoverImageId())
                 .tradeMethod(article.getTradeMethod())
                 .tradeStatus(TradeStatus.RESERVED)
                 .build();
 
         articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(before, ArticleSnapshot.from(article)));
 
         return new OfferAcceptResponse(
                 updatedOffer.getId(),
@@ -143,6 +181,8 @@ public class OfferService {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long offererId = principal.getUser().getId();
 
+        // 등록과 같은 제안자 행 잠금, 삭제 후 남은 제안 확인까지를 원자적으로
+        userRepository.findByIdForUpdate(offererId).orElseThrow(() -> new OffererNotFoundException(offererId));
         Offer offer = offerRepository.findById(offerId).orElseThrow(() -> new IllegalArgumentException("제안이 존재하지 않습니다."));
         if (!offer.getOfferer().getId().equals(offererId)) {
             throw new IllegalArgumentException("제안 당사자만 취소할 수 있습니다.");
@@ -151,6 +191,11 @@ public class OfferService {
             throw new IllegalArgumentException("수락된 제안은 취소할 수 없습니다.");
         }
         offerRepository.delete(offer);
+        if (!offerRepository.existsByArticle_IdAndOfferer_Id(offer.getArticle().getId(), offererId)) {
+            userStatsService.add(offererId, UserStatsService.Counter.OFFER, -1);
+        }
+        articleDetailCache.evictAfterCommit(offer.getArticle().getId());
+        offerBookRegistry.removeAfterCommit(offer.getArticle().getId(), offerId);
     }
 
     public void cancelAcceptedOffer(Long offerId, Long articleId) {
@@ -169,11 +214,14 @@ public class OfferService {
         }
 
         Article article = offer.getArticle();
+        ArticleSnapshot before = ArticleSnapshot.from(article);
         article.update(article.getTitle(), article.getContent(), article.getPrice(), article.getQuantity(),
                 article.getAddr1(), article.getAddr2(), article.getCategory(), article.getTradeMethod(), TradeStatus.ON_SALE);
         articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(before, ArticleSnapshot.from(article)));
 
         offer.update(false);
+        offerBookRegistry.selectAfterCommit(articleId, offerId, false);
     }
 
     public void completeSale(Long articleId) {
@@ -188,9 +236,14 @@ public class OfferService {
             throw new IllegalArgumentException("예약 상태인 게시글만 판매를 완료할 수 있습니다.");
         }
 
+        ArticleSnapshot before = ArticleSnapshot.from(article);
         article.update(article.getTitle(), article.getContent(), article.getPrice(), article.getQuantity(),
                 article.getAddr1(), article.getAddr2(), article.getCategory(), article.getTradeMethod(), TradeStatus.SOLD_OUT);
         articleRepository.save(article);
+        for (Long buyerId : offerRepository.findSelectedOffererIdsByArticleId(articleId)) {
+            userStatsService.add(buyerId, UserStatsService.Counter.BUY, 1);
+        }
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(before, ArticleSnapshot.from(article)));
     }
 
 }
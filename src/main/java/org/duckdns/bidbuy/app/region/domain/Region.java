@@ -0,0 +1,30 @@
+package org.duckdns.bidbuy.app.region.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.duckdns.bidbuy.global.common.entity.BaseEntity;
+
+// 지역 (addr1, addr2) 정규화 테이블, 게시글/유저는 region_id 로 참조
+@Entity
+@SuperBuilder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(callSuper = true)
+@Table(name = "region",
+        uniqueConstraints = @UniqueConstraint(name = "uk_region_city_district", columnNames = {"city", "district"}),
+        indexes = @Index(name = "idx_region_district", columnList = "district"))
+public class Region extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "region_id")
+    private Long id;
+
+    private String city;      // addr1
+    private String district;  // addr2
+}
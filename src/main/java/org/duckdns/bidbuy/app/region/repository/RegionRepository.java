@@ -0,0 +1,14 @@
+package org.duckdns.bidbuy.app.region.repository;
+
+import org.duckdns.bidbuy.app.region.domain.Region;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface RegionRepository extends JpaRepository<Region, Long> {
+
+    Optional<Region> findByCityAndDistrict(String city, String district);
+
+    List<Region> findByDistrict(String district);
+}
@@ -0,0 +1,48 @@
+package org.duckdns.bidbuy.app.region.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// region_id 가 비어 있는 기존 게시글/유저를 주소 조합별로 한 번에 채움
+// 검색 인덱스가 region_id 를 읽기 전에 끝나야 하므로 가장 먼저 실행
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionBackfillService {
+
+    private final RegionService regionService;
+    private final ArticleRepository articleRepository;
+    private final UserRepository userRepository;
+
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int articles = 0;
+        for (Object[] address : articleRepository.findUnresolvedAddresses()) {
+            Long regionId = regionService.resolve((String) address[0], (String) address[1]);
+            if (regionId != null) {
+                articles += articleRepository.updateRegionId(regionId, (String) address[0], (String) address[1]);
+            }
+        }
+
+        int users = 0;
+        for (Object[] address : userRepository.findUnresolvedAddresses()) {
+            Long regionId = regionService.resolve((String) address[0], (String) address[1]);
+            if (regionId != null) {
+                users += userRepository.updateRegionId(regionId, (String) address[0], (String) address[1]);
+            }
+        }
+
+        if (articles > 0 || users > 0) {
+            log.info("region_id 채움: 게시글 {}건, 유저 {}건", articles, users);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.duckdns.bidbuy.app.region.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.region.domain.Region;
+import org.duckdns.bidbuy.app.region.repository.RegionRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 주소 (addr1, addr2) -> region id 변환
+// 지역 수는 많지 않으므로 전체를 메모리에 두고, 처음 보는 주소만 새 region 을 만든다
+// 다른 서버가 만든 region 은 조회 시 메모리에 없으면 DB 에서 찾아 추가하고, 주기적으로 전체를 다시 읽어 맞춘다
+@Slf4j
+@Service
+public class RegionService {
+
+    private final RegionRepository regionRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final Map<String, Long> regionIds = new ConcurrentHashMap<>();                // city|district -> region id
+    private final Map<String, Set<Long>> districtRegionIds = new ConcurrentHashMap<>();   // district -> region id 목록
+
+    public RegionService(RegionRepository regionRepository, PlatformTransactionManager transactionManager) {
+        this.regionRepository = regionRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void loadRegions() {
+        for (Region region : regionRepository.findAll()) {
+            register(region.getCity(), region.getDistrict(), region.getId());
+        }
+        log.info("지역 목록 로드 완료: {}건", regionIds.size());
+    }
+
+    // 같은 구 이름의 다른 시처럼 일부만 메모리에 있는 경우는 조회 시 보정되지 않으므로 전체를 다시 읽음 (region 은 지워지지 않음)
+    @Scheduled(initialDelayString = "${region.refresh-interval-ms:300000}", fixedDelayString = "${region.refresh-interval-ms:300000}")
+    public void refreshRegions() {
+        for (Region region : regionRepository.findAll()) {
+            register(region.getCity(), region.getDistrict(), region.getId());
+        }
+    }
+
+    // 주소에 해당하는 region id, 없으면 새로 만듦 (주소가 비어 있으면 null)
+    public Long resolve(String city, String district) {
+        if (isBlank(city) || isBlank(district)) {
+            return null;
+        }
+        Long regionId = regionIds.get(key(city, district));
+        if (regionId != null) {
+            return regionId;
+        }
+
+        // 같은 주소로 동시에 들어와도 한 번만 만들도록 잠그고, 별도 트랜잭션으로 바로 커밋
+        synchronized (this) {
+            regionId = regionIds.get(key(city, district));
+            if (regionId != null) {
+                return regionId;
+            }
+            Long createdId = requiresNewTransaction.execute(status -> regionRepository.findByCityAndDistrict(city, district)
+                    .orElseGet(() -> regionRepository.save(Region.builder()
+                            .city(city)
+                            .district(district)
+                            .createdDate(LocalDateTime.now())
+                            .modifiedDate(LocalDateTime.now())
+                            .build()))
+                    .getId());
+            register(city, district, createdId);
+            return createdId;
+        }
+    }
+
+    // 내 주변 검색 조건 -> region id 목록 (null 이면 지역 조건 없음)
+    // addr1 이 "시", addr2 가 "구" 로 끝나면 같은 시/구, addr1 이 "구" 로 끝나면 이름이 같은 모든 구
+    public List<Long> neighborhoodRegionIds(String addr1, String addr2, Long regionId) {
+        if (addr1 == null) {
+            return null;
+        }
+        if (addr1.endsWith("시") && addr2 != null && addr2.endsWith("구")) {
+            Long id = regionId != null ? regionId : findRegionId(addr1, addr2);
+            return id == null ? new ArrayList<>() : List.of(id);
+        }
+        if (addr1.endsWith("구")) {
+            return new ArrayList<>(findDistrictRegionIds(addr1));
+        }
+        return null;
+    }
+
+    // 메모리에 없으면 DB 에서 찾아 추가
+    private Long findRegionId(String city, String district) {
+        Long regionId = regionIds.get(key(city, district));
+        if (regionId != null) {
+            return regionId;
+        }
+        return regionRepository.findByCityAndDistrict(city, district)
+                .map(region -> {
+                    register(region.getCity(), region.getDistrict(), region.getId());
+                    return region.getId();
+                })
+                .orElse(null);
+    }
+
+    private Set<Long> findDistrictRegionIds(String district) {
+        Set<Long> ids = districtRegionIds.get(district);
+        if (ids != null) {
+            return ids;
+        }
+        for (Region region : regionRepository.findByDistrict(district)) {
+            register(region.getCity(), region.getDistrict(), region.getId());
+        }
+        return districtRegionIds.getOrDefault(district, Set.of());
+    }
+
+    private void register(String city, String district, Long regionId) {
+        regionIds.put(key(city, district), regionId);
+        districtRegionIds.computeIfAbsent(district, d -> ConcurrentHashMap.newKeySet()).add(regionId);
+    }
+
+    private String key(String city, String district) {
+        return city + "|" + district;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
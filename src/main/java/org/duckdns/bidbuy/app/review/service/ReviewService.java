@@ -20,6 +20,7 @@ import org.duckdns.bidbuy.app.user.domain.User;
 import org.duckdns.bidbuy.app.user.dto.MySalesResponse;
 import org.duckdns.bidbuy.app.user.dto.PageResponseDTO;
 import org.duckdns.bidbuy.app.user.repository.UserRepository;
+import org.duckdns.bidbuy.app.user.service.UserStatsService;
 import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,7 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final ArticleRepository articleRepository;
     private final OfferRepository offerRepository;
+    private final UserStatsService userStatsService;
 
     @Transactional
     public String createReview(Long articleId, ReviewRequest reviewRequest) {
@@ -72,6 +74,7 @@ public class ReviewService {
                 .build();
 
         Review savedReview =  reviewRepository.save(review);
+        addReviewCount(reviewer.getId(), reviewee.getId(), 1);
 
 
         Optional<User> userOptional = userRepository.findById(reviewee.getId());
@@ -173,6 +176,7 @@ public class ReviewService {
 
         Long reviewId = review.getId();
         reviewRepository.delete(review);
+        addReviewCount(review.getReviewer().getId(), review.getReviewee().getId(), -1);
 
         Review deletedReview = reviewRepository.findById(reviewId).orElse(null);
         if(deletedReview != null) {
@@ -183,6 +187,14 @@ public class ReviewService {
 
     }
 
+    // 리뷰 개수는 작성자/대상자 양쪽에 반영 (같은 유저면 한 번)
+    private void addReviewCount(Long reviewerId, Long revieweeId, int delta) {
+        userStatsService.add(reviewerId, UserStatsService.Counter.REVIEW, delta);
+        if (!revieweeId.equals(reviewerId)) {
+            userStatsService.add(revieweeId, UserStatsService.Counter.REVIEW, delta);
+        }
+    }
+
     // 현재 시간과의 차이 계산
     private String getTimeAgo(LocalDateTime createdDate) {
         Duration duration = Duration.between(createdDate, LocalDateTime.now());
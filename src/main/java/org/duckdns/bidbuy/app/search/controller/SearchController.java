@@ -5,7 +5,6 @@ import lombok.extern.log4j.Log4j2;
 import org.duckdns.bidbuy.app.article.domain.*;
 import org.duckdns.bidbuy.app.search.dto.*;
 import org.duckdns.bidbuy.app.search.service.SearchService;
-import org.duckdns.bidbuy.app.user.domain.User;
 import org.duckdns.bidbuy.global.common.response.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,34 +30,14 @@ public class SearchController {
                                                     @RequestParam(required = false) TradeMethod tradeMethod,
                                                     @RequestParam(required = false) TradeStatus tradeStatus,
                                                     @RequestParam(required = false) String orderBy,
-                                                    @RequestParam int page,
+                                                    @RequestParam(defaultValue = "1") int page,
                                                     @RequestParam int size,
+                                                    @RequestParam(required = false) String cursor,
                                                     @RequestParam(required = false) Long id) {
 
-        //검색 게시글
-        List<Article> search = searchService.search(category, tradeMethod, tradeStatus, content, orderBy, page, size);
-        List<SearchArticleResponse> searchResult = search.stream()
-                .map(s -> new SearchArticleResponse(s))
-                .collect(toList());
-
-        //게시글 총 수
-        Long totalCount = searchService.totalCount(category, tradeMethod, tradeStatus, content);
-
-        // 검색된 게시글에서 좋아요
-        List<LikeArticleResponse> likeArticleResult;
-        if (id != null) {
-            List<LikeArticle> likeArticles = searchService.findLikeArticles(category, tradeMethod, content, id);
-            likeArticleResult = likeArticles.stream()
-                    .map(l -> new LikeArticleResponse(l))
-                    .collect(toList());
-        } else {
-            likeArticleResult = new ArrayList<>();
-        }
-
-
-
-
-        SearchResponse result = new SearchResponse(totalCount, searchResult, likeArticleResult);
+        //검색 게시글, 게시글 총 수, 검색된 게시글에서 좋아요 (cursor 파라미터가 있으면 커서 페이징, 빈 값이면 첫 페이지)
+        //orderBy=hot 은 DB 에 반영된 조회수로 정렬하고 표시도 같은 값 (순위와 조회수는 조회수 flush 주기만큼 늦음)
+        SearchResponse result = searchService.searchPage(category, tradeMethod, tradeStatus, content, orderBy, page, size, cursor, id);
 
         ApiResponse<SearchResponse> response = new ApiResponse<>("200", "검색결과 페이지 조회 완료", result);
         return ResponseEntity.ok(response);
@@ -75,25 +54,16 @@ public class SearchController {
                                                               @RequestParam int size,
                                                               @RequestParam(required = false) Long id) {
 
-        List<User> user = searchService.findUserAddress(id);
-        List<UserResponse> address = user.stream()
-                .map(u -> new UserResponse((u)))
-                .collect(toList());
+        List<UserResponse> address = searchService.findUserAddress(id);
 
         //검색 게시글
-        List<Article> search = searchService.searchLocation(category, tradeMethod, tradeStatus, orderBy, page, size, address);
-        List<SearchArticleResponse> searchResult = search.stream()
-                .map(s -> new SearchArticleResponse(s))
-                .collect(toList());
+        List<SearchArticleResponse> searchResult = searchService.searchLocation(category, tradeMethod, tradeStatus, orderBy, page, size, address);
 
         //게시글 총 수
         Long totalCount = searchService.myLocationtotalCount(category, tradeMethod, tradeStatus, address);
 
-        //검색된 게시글에서 좋아요
-        List<LikeArticle> likeArticles = searchService.findLikeArticles(category, tradeMethod, content, id);
-        List<LikeArticleResponse> likeArticleResult = likeArticles.stream()
-                .map(l -> new LikeArticleResponse(l))
-                .collect(toList());
+        //검색된 게시글에서 좋아요 (페이지 게시글만)
+        List<LikeArticleResponse> likeArticleResult = id == null ? new ArrayList<>() : searchService.markLiked(id, searchResult);
 
 
 
@@ -115,6 +85,15 @@ public class SearchController {
         return ResponseEntity.ok(response);
     }
 
+    //검색어 기준 카테고리/거래 방식/거래 상태별 게시글 수
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<SearchFacetResponse>> facets(@RequestParam(required = false) String content) {
+
+        SearchFacetResponse result = searchService.facets(content);
+        ApiResponse<SearchFacetResponse> response = new ApiResponse<>("200", "검색결과 패싯 조회 완료", result);
+        return ResponseEntity.ok(response);
+    }
+
     //내 주변 게시글 총 수
     @GetMapping("/myTotal")
     public ResponseEntity<ApiResponse<MyLocationHeaderResponse>> myLocationtotalCount(@RequestParam(required = false) Long id,
@@ -122,10 +101,7 @@ public class SearchController {
                                                                                       @RequestParam(required = false) TradeMethod tradeMethod,
                                                                                       @RequestParam(required = false) TradeStatus tradeStatus) {
 
-        List<User> user = searchService.findUserAddress(id);
-        List<UserResponse> address = user.stream()
-                .map(u -> new UserResponse((u)))
-                .collect(toList());
+        List<UserResponse> address = searchService.findUserAddress(id);
 
         Long totalCount = searchService.myLocationtotalCount(category, tradeMethod, tradeStatus, address);
 
@@ -1,7 +1,6 @@
 package org.duckdns.bidbuy.app.search.dto;
 
 import lombok.Getter;
-import org.duckdns.bidbuy.app.article.domain.LikeArticle;
 
 @Getter
 public class LikeArticleResponse {
@@ -9,9 +8,9 @@ public class LikeArticleResponse {
     private Long user_id;
     private Long article_id;
 
-    public LikeArticleResponse(LikeArticle likeArticle) {
-        like_article_id = likeArticle.getId();
-        user_id = likeArticle.getUser().getId();
-        article_id = likeArticle.getArticle().getId();
+    public LikeArticleResponse(Long likeArticleId, Long userId, Long articleId) {
+        like_article_id = likeArticleId;
+        user_id = userId;
+        article_id = articleId;
     }
 }
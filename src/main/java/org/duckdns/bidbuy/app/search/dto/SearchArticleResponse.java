@@ -4,8 +4,6 @@ import lombok.Getter;
 import org.duckdns.bidbuy.app.article.domain.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
 public class SearchArticleResponse {
@@ -18,7 +16,7 @@ public class SearchArticleResponse {
     private String addr1;
     private String addr2;
     private Long viewCount;
-    private Long imageId;
+    private Long imageId;  // 첫 번째 이미지(product_image) id, 이미지가 없으면 null
     private String thumbnailUrl;
 
     private TradeMethod tradeMethod;
@@ -26,28 +24,34 @@ public class SearchArticleResponse {
 
     private LocalDateTime createdDate;
 
-    public SearchArticleResponse(Article article) {
-        id = article.getId();
-        category = article.getCategory();
-        title = article.getTitle();
-        price = article.getPrice();
-        addr1 = article.getAddr1();
-        addr2 = article.getAddr2();
-        viewCount = article.getViewCount();
-        tradeMethod = article.getTradeMethod();
-        tradeStatus = article.getTradeStatus();
-        createdDate = article.getCreatedDate();
-
-
-
-        if (article.getProductImages() != null && !article.getProductImages().isEmpty()) {
-            ProductImage firstImage = article.getProductImages().get(0);
-            thumbnailUrl = firstImage.getThumbnailUrl();
-            imageId = firstImage.getId();
-        } else {
-            thumbnailUrl = null;
-            imageId = null;
-        }
+    // 로그인 유저가 좋아요 한 게시글인지
+    private boolean liked;
+
+    // 검색 쿼리의 생성자 projection 용
+    public SearchArticleResponse(Long id, Category category, String title, Integer price, String addr1, String addr2, Long viewCount,
+                                 TradeMethod tradeMethod, TradeStatus tradeStatus, LocalDateTime createdDate, Long imageId, String thumbnailUrl) {
+        this.id = id;
+        this.category = category;
+        this.title = title;
+        this.price = price;
+        this.addr1 = addr1;
+        this.addr2 = addr2;
+        this.viewCount = viewCount;
+        this.tradeMethod = tradeMethod;
+        this.tradeStatus = tradeStatus;
+        this.createdDate = createdDate;
+        this.imageId = imageId;
+        this.thumbnailUrl = thumbnailUrl;
+    }
 
+    public void setLiked(boolean liked) {
+        this.liked = liked;
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수를 더함
+    public void addPendingViewCount(long pending) {
+        if (pending > 0) {
+            this.viewCount = (viewCount == null ? 0L : viewCount) + pending;
+        }
     }
 }
@@ -0,0 +1,46 @@
+package org.duckdns.bidbuy.app.search.dto;
+
+import lombok.Getter;
+import org.duckdns.bidbuy.app.article.domain.Category;
+import org.duckdns.bidbuy.app.article.domain.TradeMethod;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 검색어 기준 전체/카테고리/거래 방식/거래 상태별 게시글 수
+@Getter
+public class SearchFacetResponse {
+    private Long totalCount = 0L;
+    private Map<Category, Long> category = new EnumMap<>(Category.class);
+    private Map<TradeMethod, Long> tradeMethod = new EnumMap<>(TradeMethod.class);
+    private Map<TradeStatus, Long> tradeStatus = new EnumMap<>(TradeStatus.class);
+
+    // (category, tradeMethod, tradeStatus, count) 그룹 결과를 각 축으로 합산
+    public SearchFacetResponse(List<Object[]> groups) {
+        for (Category c : Category.values()) {
+            category.put(c, 0L);
+        }
+        for (TradeMethod m : TradeMethod.values()) {
+            tradeMethod.put(m, 0L);
+        }
+        for (TradeStatus s : TradeStatus.values()) {
+            tradeStatus.put(s, 0L);
+        }
+
+        for (Object[] group : groups) {
+            long count = (Long) group[3];
+            totalCount += count;
+            if (group[0] != null) {
+                category.merge((Category) group[0], count, Long::sum);
+            }
+            if (group[1] != null) {
+                tradeMethod.merge((TradeMethod) group[1], count, Long::sum);
+            }
+            if (group[2] != null) {
+                tradeStatus.merge((TradeStatus) group[2], count, Long::sum);
+            }
+        }
+    }
+}
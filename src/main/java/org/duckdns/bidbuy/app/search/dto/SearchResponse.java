@@ -10,6 +10,7 @@ public class SearchResponse {
     private Long totalCount;
     private List<SearchArticleResponse> searchResult;
     private List<LikeArticleResponse> likeResult;
+    private String nextCursor;
 
     public SearchResponse(Long totalCount, List<SearchArticleResponse> searchResult, List<LikeArticleResponse> likeResult) {
         this.totalCount = totalCount;
@@ -17,4 +18,9 @@ public class SearchResponse {
         this.likeResult = likeResult;
     }
 
+    public SearchResponse(Long totalCount, List<SearchArticleResponse> searchResult, List<LikeArticleResponse> likeResult, String nextCursor) {
+        this(totalCount, searchResult, likeResult);
+        this.nextCursor = nextCursor;
+    }
+
 }
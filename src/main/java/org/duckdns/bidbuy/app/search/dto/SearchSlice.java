@@ -0,0 +1,14 @@
+package org.duckdns.bidbuy.app.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 페이징 결과, nextCursor 가 null 이면 마지막 페이지
+@Getter
+@AllArgsConstructor
+public class SearchSlice {
+    private List<SearchArticleResponse> articles;
+    private String nextCursor;
+}
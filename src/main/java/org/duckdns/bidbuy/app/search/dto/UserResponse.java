@@ -1,15 +1,19 @@
 package org.duckdns.bidbuy.app.search.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
-import org.duckdns.bidbuy.app.user.domain.User;
 
 @Getter
 public class UserResponse {
     private String addr1;
     private String addr2;
 
-    public UserResponse(User user) {
-        addr1 = user.getAddr1();
-        addr2 = user.getAddr2();
+    @JsonIgnore
+    private Long regionId;
+
+    public UserResponse(String addr1, String addr2, Long regionId) {
+        this.addr1 = addr1;
+        this.addr2 = addr2;
+        this.regionId = regionId;
     }
 }
@@ -0,0 +1,11 @@
+package org.duckdns.bidbuy.app.search.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SearchTimeoutException extends RuntimeException {
+    public SearchTimeoutException(long timeoutMs) {
+        super("검색 처리 시간이 " + timeoutMs + "ms 를 초과했습니다.");
+    }
+}
@@ -0,0 +1,21 @@
+package org.duckdns.bidbuy.app.search.index;
+
+import java.util.Set;
+
+// 게시글 title / addr1 / addr2 검색용 메모리 인덱스
+// 검색어를 포함할 수 있는 게시글 id 후보 집합을 돌려주고, 최종 판정(LIKE)과 나머지 조건은 DB 쿼리에서 처리한다
+public interface ArticleSearchIndex {
+
+    void index(Long articleId, String title, String addr1, String addr2);
+
+    void remove(Long articleId);
+
+    // 인덱스로 답할 수 없는 검색어(한 글자 단어 등)이거나 아직 인덱스가 준비되지 않았으면 null
+    Set<Long> findCandidateIds(String content);
+
+    void markReady();
+
+    void clear();
+
+    int size();
+}
@@ -0,0 +1,145 @@
+package org.duckdns.bidbuy.app.search.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 2-gram 역색인
+// 한글은 형태소 분석 없이도 "헬스장" -> "헬스", "스장" 처럼 두 글자씩 잘라 색인하면 부분 검색이 가능하다
+// 검색어의 모든 bigram 을 가진 게시글은 '%검색어%' 를 만족할 수 있는 후보(상위 집합)이다
+@Component
+public class BigramArticleSearchIndex implements ArticleSearchIndex {
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> articleTokens = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    @Override
+    public synchronized void index(Long articleId, String title, String addr1, String addr2) {
+        remove(articleId);
+
+        Set<String> tokens = new HashSet<>();
+        addTokens(tokens, title);
+        addTokens(tokens, addr1);
+        addTokens(tokens, addr2);
+
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(articleId);
+        }
+        articleTokens.put(articleId, tokens);
+    }
+
+    @Override
+    public synchronized void remove(Long articleId) {
+        Set<String> tokens = articleTokens.remove(articleId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(articleId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<Long> findCandidateIds(String content) {
+        // LIKE 와일드카드(%, _)가 들어간 검색어는 bigram 후보가 상위 집합이 아니므로 DB 에 맡긴다
+        if (!ready || content == null || content.indexOf('%') >= 0 || content.indexOf('_') >= 0) {
+            return null;
+        }
+
+        Set<String> queryTokens = new HashSet<>();
+        for (String word : split(content)) {
+            if (word.length() < 2) {
+                return null;
+            }
+            queryTokens.addAll(bigrams(word));
+        }
+        if (queryTokens.isEmpty()) {
+            return null;
+        }
+
+        // posting 이 가장 짧은 토큰부터 교집합
+        Set<Long> smallest = null;
+        for (String token : queryTokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        Set<Long> candidates = new HashSet<>(smallest);
+        for (String token : queryTokens) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            if (ids != smallest) {
+                candidates.retainAll(ids);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public void markReady() {
+        this.ready = true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        ready = false;
+        postings.clear();
+        articleTokens.clear();
+    }
+
+    @Override
+    public int size() {
+        return articleTokens.size();
+    }
+
+    private void addTokens(Set<String> tokens, String text) {
+        if (text == null) {
+            return;
+        }
+        for (String word : split(text)) {
+            tokens.addAll(bigrams(word));
+        }
+    }
+
+    private String[] split(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT).trim();
+        if (normalized.isEmpty()) {
+            return new String[0];
+        }
+        return normalized.split("\\s+");
+    }
+
+    private List<String> bigrams(String word) {
+        if (word.length() < 2) {
+            return List.of();
+        }
+        String[] grams = new String[word.length() - 1];
+        for (int i = 0; i < word.length() - 1; i++) {
+            grams[i] = word.substring(i, i + 2);
+        }
+        return List.of(grams);
+    }
+}
@@ -0,0 +1,58 @@
+package org.duckdns.bidbuy.app.search.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// region id -> 게시글 id 메모리 인덱스
+// 내 주변 검색에서 지역에 게시글이 없으면 DB 조회를 생략하고, 다른 조건이 없는 개수는 바로 계산
+@Component
+public class RegionArticleIndex {
+
+    private final Map<Long, Set<Long>> articleIds = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public void add(Long regionId, Long articleId) {
+        if (regionId == null) {
+            return;
+        }
+        articleIds.computeIfAbsent(regionId, r -> ConcurrentHashMap.newKeySet()).add(articleId);
+    }
+
+    public void remove(Long regionId, Long articleId) {
+        if (regionId == null) {
+            return;
+        }
+        Set<Long> ids = articleIds.get(regionId);
+        if (ids != null) {
+            ids.remove(articleId);
+        }
+    }
+
+    // 지역 목록의 게시글 수, 인덱스가 준비되지 않았으면 null
+    public Long count(List<Long> regionIds) {
+        if (!ready) {
+            return null;
+        }
+        long count = 0;
+        for (Long regionId : regionIds) {
+            Set<Long> ids = articleIds.get(regionId);
+            if (ids != null) {
+                count += ids.size();
+            }
+        }
+        return count;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public void clear() {
+        ready = false;
+        articleIds.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package org.duckdns.bidbuy.app.search.repository;
+
+import jakarta.persistence.Query;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 검색 요청의 마감 시각, 검색 풀 스레드에서 조회하는 동안만 설정된다
+// 요청 쪽에서 future.cancel(true) 를 해도 실행 중인 JDBC 쿼리는 멈추지 않으므로 쿼리마다 남은 시간을 timeout 으로 건다
+public final class SearchDeadline {
+
+    private static final String TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private SearchDeadline() {
+    }
+
+    public static <T> T run(long deadlineNanos, Supplier<T> query) {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(deadlineNanos);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE.remove();
+            } else {
+                DEADLINE.set(previous);
+            }
+        }
+    }
+
+    // 마감 시각이 있으면 남은 시간을 쿼리 timeout 으로 설정
+    // JDBC timeout 은 초 단위라 Hibernate 가 반올림하면서 0(무제한)이 되지 않도록 초 단위로 올림해서 넘긴다
+    static <Q extends Query> Q apply(Q query) {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return query;
+        }
+        long remainingMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        long seconds = (remainingMs + 999) / 1000;
+        query.setHint(TIMEOUT_HINT, (int) (seconds * 1000));
+        return query;
+    }
+}
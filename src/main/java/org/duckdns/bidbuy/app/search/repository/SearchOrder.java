@@ -0,0 +1,73 @@
+package org.duckdns.bidbuy.app.search.repository;
+
+import org.duckdns.bidbuy.app.search.dto.SearchArticleResponse;
+
+import java.time.LocalDateTime;
+
+// 검색 정렬 기준, keyset 페이징에서는 같은 값이면 id 로 순서를 고정한다
+public enum SearchOrder {
+
+    LATEST("latest", "createdDate", false),
+    LOW_PRICE("lowPrice", "price", true),
+    HIGH_PRICE("highPrice", "price", false),
+    HOT("hot", "viewCount", false),
+    DEFAULT("", "id", false);
+
+    private final String orderBy;
+    private final String attribute;
+    private final boolean ascending;
+
+    SearchOrder(String orderBy, String attribute, boolean ascending) {
+        this.orderBy = orderBy;
+        this.attribute = attribute;
+        this.ascending = ascending;
+    }
+
+    public static SearchOrder from(String orderBy) {
+        if (orderBy != null) {
+            for (SearchOrder order : values()) {
+                if (order.orderBy.equals(orderBy)) {
+                    return order;
+                }
+            }
+        }
+        return DEFAULT;
+    }
+
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public boolean isIdOnly() {
+        return this == DEFAULT;
+    }
+
+    // 커서에 담을 정렬 값
+    public String valueOf(SearchArticleResponse article) {
+        Object value = switch (this) {
+            case LATEST -> article.getCreatedDate();
+            case LOW_PRICE, HIGH_PRICE -> article.getPrice();
+            case HOT -> article.getViewCount();
+            case DEFAULT -> article.getId();
+        };
+        return value == null ? null : value.toString();
+    }
+
+    // 커서의 정렬 값을 컬럼 타입으로 변환
+    @SuppressWarnings("rawtypes")
+    public Comparable parseValue(String value) {
+        return switch (this) {
+            case LATEST -> LocalDateTime.parse(value);
+            case LOW_PRICE, HIGH_PRICE -> Integer.valueOf(value);
+            case HOT, DEFAULT -> Long.valueOf(value);
+        };
+    }
+}
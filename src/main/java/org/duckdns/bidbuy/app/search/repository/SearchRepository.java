@@ -5,56 +5,43 @@ import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.RequiredArgsConstructor;
 import org.duckdns.bidbuy.app.article.domain.*;
+import org.duckdns.bidbuy.app.search.dto.LikeArticleResponse;
+import org.duckdns.bidbuy.app.search.dto.SearchArticleResponse;
 import org.duckdns.bidbuy.app.search.dto.UserResponse;
-import org.duckdns.bidbuy.app.user.domain.User;
+import org.duckdns.bidbuy.app.search.index.ArticleSearchIndex;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.duckdns.bidbuy.global.common.paging.KeysetPredicates;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class SearchRepository {
 
+    // IN 절이 이보다 커지면 인덱스 후보 대신 LIKE 검색으로 처리
+    private static final int MAX_CANDIDATE_IDS = 1000;
+
     private final EntityManager em;
+    private final ArticleSearchIndex articleSearchIndex;
 
     @Transactional(readOnly = true)
-    public List<Article> search(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, String orderBy, int page, int size) {
-        em.flush();
-        em.clear();
+    public List<SearchArticleResponse> search(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, String orderBy, int page, int size) {
+        // 검색어가 있으면 역색인으로 후보 id 를 먼저 구함, 후보가 없으면 DB 조회 생략
+        Set<Long> candidateIds = findCandidateIds(content);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
         CriteriaBuilder cb = em.getCriteriaBuilder();
-        CriteriaQuery<Article> cq = cb.createQuery(Article.class);
+        CriteriaQuery<SearchArticleResponse> cq = cb.createQuery(SearchArticleResponse.class);
         Root<Article> article = cq.from(Article.class);
+        cq.select(articleProjection(cb, article));
 
-        List<Predicate> predicates = new ArrayList<>();
-
-        //카테고리
-        if (category != null) {
-            predicates.add(cb.equal(article.get("category"), category));
-        }
-
-        //거래 방식
-        if (tradeMethod != null) {
-            predicates.add(cb.equal(article.get("tradeMethod"), tradeMethod));
-        }
-
-        //거래 상태
-        if (tradeStatus != null) {
-            predicates.add(cb.equal(article.get("tradeStatus"), tradeStatus));
-        }
-
-        // 검색 내용
-        if (content != null && !content.trim().isEmpty()) {
-            String contentPattern = "%" + content + "%";
-            Predicate contentPredicate = cb.or(
-                    cb.like(article.get("title"), contentPattern),
-                    cb.like(article.get("addr1"), contentPattern),
-                    cb.like(article.get("addr2"), contentPattern)
-            );
-            predicates.add(contentPredicate);
-        }
+        List<Predicate> predicates = searchPredicates(cb, article, category, tradeMethod, tradeStatus, content, candidateIds);
 
         cq.where(predicates.toArray(new Predicate[0]));
 
@@ -69,7 +56,7 @@ public class SearchRepository {
         cq.orderBy(cb.desc(article.get("viewCount")));
     }
 
-        TypedQuery<Article> query = em.createQuery(cq);
+        TypedQuery<SearchArticleResponse> query = SearchDeadline.apply(em.createQuery(cq));
 
         // 페이징
         int startIndex = (page - 1) * size;
@@ -80,71 +67,151 @@ public class SearchRepository {
         return query.getResultList();
     }
 
+    // keyset 페이징: 커서(마지막 행의 정렬 값, id) 다음 행부터 size 개를 조회, OFFSET 없이 인덱스에서 바로 이어 읽음
     @Transactional(readOnly = true)
-    public long totalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content) {
+    public List<SearchArticleResponse> searchAfter(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, SearchOrder order, KeysetCursor cursor, int size) {
+        Set<Long> candidateIds = findCandidateIds(content);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         CriteriaBuilder cb = em.getCriteriaBuilder();
-        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        CriteriaQuery<SearchArticleResponse> cq = cb.createQuery(SearchArticleResponse.class);
         Root<Article> article = cq.from(Article.class);
+        cq.select(articleProjection(cb, article));
 
-        List<Predicate> predicates = new ArrayList<>();
-
-        // 카테고리
-        if (category != null) {
-            predicates.add(cb.equal(article.get("category"), category));
+        List<Predicate> predicates = searchPredicates(cb, article, category, tradeMethod, tradeStatus, content, candidateIds);
+        if (cursor != null) {
+            predicates.add(seekPredicate(cb, article, order, cursor));
         }
 
-        // 거래 방식
-        if (tradeMethod != null) {
-            predicates.add(cb.equal(article.get("tradeMethod"), tradeMethod));
-        }
+        cq.where(predicates.toArray(new Predicate[0]));
 
-        //거래 상태
-        if (tradeStatus != null) {
-            predicates.add(cb.equal(article.get("tradeStatus"), tradeStatus));
+        // 정렬 값이 같은 행은 id 로 순서를 고정
+        if (order.isIdOnly()) {
+            cq.orderBy(cb.desc(article.get("id")));
+        } else if (order.isAscending()) {
+            cq.orderBy(cb.asc(article.get(order.getAttribute())), cb.asc(article.get("id")));
+        } else {
+            cq.orderBy(cb.desc(article.get(order.getAttribute())), cb.desc(article.get("id")));
         }
 
-        // 검색 내용
-        if (content != null && !content.trim().isEmpty()) {
-            String contentPattern = "%" + content + "%";
-            Predicate contentPredicate = cb.or(
-                    cb.like(article.get("title"), contentPattern),
-                    cb.like(article.get("addr1"), contentPattern),
-                    cb.like(article.get("addr2"), contentPattern)
-            );
-            predicates.add(contentPredicate);
+        return SearchDeadline.apply(em.createQuery(cq))
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    public long totalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content) {
+        Set<Long> candidateIds = findCandidateIds(content);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return 0L;
         }
 
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Article> article = cq.from(Article.class);
+
+        List<Predicate> predicates = searchPredicates(cb, article, category, tradeMethod, tradeStatus, content, candidateIds);
+
         cq.select(cb.count(article)).where(predicates.toArray(new Predicate[0]));
 
-        return em.createQuery(cq).getSingleResult();
+        return SearchDeadline.apply(em.createQuery(cq)).getSingleResult();
     }
 
-    public List<User> findUserAddress(Long id) {
-        List<User> addresses = em.createQuery("select u from User u where u.id = :id", User.class)
-                .setParameter("id", id)
+    // 패싯 집계: 검색어 조건으로 (카테고리, 거래 방식, 거래 상태) 별 개수를 한 번의 GROUP BY 로 조회
+    @Transactional(readOnly = true)
+    public List<Object[]> facetCounts(String content) {
+        Set<Long> candidateIds = findCandidateIds(content);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Object[]> cq = cb.createQuery(Object[].class);
+        Root<Article> article = cq.from(Article.class);
+
+        List<Predicate> predicates = searchPredicates(cb, article, null, null, null, content, candidateIds);
+
+        cq.multiselect(article.get("category"), article.get("tradeMethod"), article.get("tradeStatus"), cb.count(article))
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(article.get("category"), article.get("tradeMethod"), article.get("tradeStatus"));
+
+        return em.createQuery(cq).getResultList();
+    }
+
+    // 검색 인덱스 재생성용, id 기준으로 끊어서 읽음
+    @Transactional(readOnly = true)
+    public List<Object[]> findIndexRows(Long lastId, int size) {
+        return em.createQuery("select a.id, a.title, a.addr1, a.addr2, a.regionId from Article a where a.id > :lastId order by a.id", Object[].class)
+                .setParameter("lastId", lastId)
+                .setMaxResults(size)
                 .getResultList();
+    }
+
+    // null: 인덱스를 사용하지 않음 (검색어 없음, 한 글자 검색어, 후보가 너무 많음 등)
+    private Set<Long> findCandidateIds(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return null;
+        }
+        Set<Long> candidateIds = articleSearchIndex.findCandidateIds(content.trim());
+        if (candidateIds != null && candidateIds.size() > MAX_CANDIDATE_IDS) {
+            return null;
+        }
+        return candidateIds;
+    }
 
-        return addresses;
+    // 목록에 필요한 컬럼만 DTO 로 조회 (엔티티/지연 로딩 컬렉션을 만들지 않음)
+    // 썸네일과 imageId 는 article.thumbnail_url, article.cover_image_id 에서 바로 읽음 (product_image 를 읽지 않음)
+    private CompoundSelection<SearchArticleResponse> articleProjection(CriteriaBuilder cb, Root<Article> article) {
+        return cb.construct(SearchArticleResponse.class,
+                article.get("id"),
+                article.get("category"),
+                article.get("title"),
+                article.get("price"),
+                article.get("addr1"),
+                article.get("addr2"),
+                article.get("viewCount"),
+                article.get("tradeMethod"),
+                article.get("tradeStatus"),
+                article.get("createdDate"),
+                article.get("coverImageId"),
+                article.get("thumbnailUrl"));
     }
 
-    public List<LikeArticle> findLikeArticles(Category category, TradeMethod tradeMethod, String content, Long id) {
-        CriteriaBuilder cb = em.getCriteriaBuilder();
-        CriteriaQuery<LikeArticle> cq = cb.createQuery(LikeArticle.class);
-        Root<LikeArticle> likeArticle = cq.from(LikeArticle.class);
-        Join<LikeArticle, Article> article = likeArticle.join("article");
+    // 커서 이후 행 조건
+    @SuppressWarnings("rawtypes")
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Article> article, SearchOrder order, KeysetCursor cursor) {
+        if (order.isIdOnly()) {
+            return KeysetPredicates.after(cb, null, article.get("id"), false, null, cursor.getLastId());
+        }
+        Comparable lastValue = cursor.getLastValue() == null ? null : order.parseValue(cursor.getLastValue());
+        return KeysetPredicates.after(cb, article.get(order.getAttribute()), article.get("id"), order.isAscending(), lastValue, cursor.getLastId());
+    }
 
+    private List<Predicate> searchPredicates(CriteriaBuilder cb, Root<Article> article, Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, Set<Long> candidateIds) {
         List<Predicate> predicates = new ArrayList<>();
 
-        // 카테고리
+        //카테고리
         if (category != null) {
             predicates.add(cb.equal(article.get("category"), category));
         }
 
-        // 거래 방식
+        //거래 방식
         if (tradeMethod != null) {
             predicates.add(cb.equal(article.get("tradeMethod"), tradeMethod));
         }
 
+        //거래 상태
+        if (tradeStatus != null) {
+            predicates.add(cb.equal(article.get("tradeStatus"), tradeStatus));
+        }
+
+        // 인덱스 후보 id (PK 조회로 범위를 줄인 뒤 아래 LIKE 로 최종 확인)
+        if (candidateIds != null) {
+            predicates.add(article.get("id").in(candidateIds));
+        }
+
         // 검색 내용
         if (content != null && !content.trim().isEmpty()) {
             String contentPattern = "%" + content + "%";
@@ -156,25 +223,41 @@ public class SearchRepository {
             predicates.add(contentPredicate);
         }
 
-        // 해당 아이디의 좋아요 값만 받아오게
-        predicates.add(cb.equal(likeArticle.get("user").get("id"), id));
-
-
-
-        cq.where(predicates.toArray(new Predicate[0]));
+        return predicates;
+    }
 
-        TypedQuery<LikeArticle> query = em.createQuery(cq);
+    // 유저 엔티티 대신 주소와 region id 만 조회
+    @Transactional(readOnly = true)
+    public List<UserResponse> findUserAddress(Long id) {
+        return em.createQuery("select new org.duckdns.bidbuy.app.search.dto.UserResponse(u.addr1, u.addr2, u.regionId) from User u where u.id = :id", UserResponse.class)
+                .setParameter("id", id)
+                .getResultList();
+    }
 
-        return query.getResultList();
+    // 페이지에 나온 게시글 중 유저가 좋아요 한 것만 조회 (article_id IN 페이지 id)
+    @Transactional(readOnly = true)
+    public List<LikeArticleResponse> findPageLikes(Long userId, List<Long> articleIds) {
+        if (userId == null || articleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return SearchDeadline.apply(em.createQuery("select new org.duckdns.bidbuy.app.search.dto.LikeArticleResponse(la.id, la.user.id, la.article.id) " +
+                        "from LikeArticle la where la.user.id = :userId and la.article.id in :articleIds", LikeArticleResponse.class))
+                .setParameter("userId", userId)
+                .setParameter("articleIds", articleIds)
+                .getResultList();
     }
 
-    public List<Article> searchLocation(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String orderBy, int page, int size, List<UserResponse> address) {
-        em.flush();
-        em.clear();
+    // regionIds 가 null 이면 지역 조건 없음
+    @Transactional(readOnly = true)
+    public List<SearchArticleResponse> searchLocation(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String orderBy, int page, int size, List<Long> regionIds) {
+        if (regionIds != null && regionIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
         CriteriaBuilder cb = em.getCriteriaBuilder();
-        CriteriaQuery<Article> cq = cb.createQuery(Article.class);
+        CriteriaQuery<SearchArticleResponse> cq = cb.createQuery(SearchArticleResponse.class);
         Root<Article> article = cq.from(Article.class);
+        cq.select(articleProjection(cb, article));
 
         List<Predicate> predicates = new ArrayList<>();
 
@@ -193,17 +276,9 @@ public class SearchRepository {
             predicates.add(cb.equal(article.get("tradeStatus"), tradeStatus));
         }
 
-        // 주소
-        if (address != null && !address.isEmpty()) {
-            String addr1 = address.get(0).getAddr1();
-            String addr2 = address.get(0).getAddr2();
-
-            if (addr1.endsWith("시") && addr2.endsWith("구")) {
-                predicates.add(cb.equal(article.get("addr1"), addr1));
-                predicates.add(cb.equal(article.get("addr2"), addr2));
-            } else if (addr1.endsWith("구")) {
-                predicates.add(cb.equal(article.get("addr2"), addr1));
-            }
+        // 지역 (region_id, trade_status, created_date 인덱스)
+        if (regionIds != null) {
+            predicates.add(article.get("regionId").in(regionIds));
         }
 
         cq.where(predicates.toArray(new Predicate[0]));
@@ -219,7 +294,7 @@ public class SearchRepository {
             cq.orderBy(cb.desc(article.get("viewCount")));
         }
 
-        TypedQuery<Article> query = em.createQuery(cq);
+        TypedQuery<SearchArticleResponse> query = em.createQuery(cq);
 
         // 페이징
         int startIndex = (page - 1) * size;
@@ -231,7 +306,12 @@ public class SearchRepository {
 
     }
 
-    public Long myLocationtotalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, List<UserResponse> address) {
+    @Transactional(readOnly = true)
+    public Long myLocationtotalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, List<Long> regionIds) {
+        if (regionIds != null && regionIds.isEmpty()) {
+            return 0L;
+        }
+
         CriteriaBuilder cb = em.getCriteriaBuilder();
         CriteriaQuery<Long> cq = cb.createQuery(Long.class);
         Root<Article> article = cq.from(Article.class);
@@ -253,17 +333,9 @@ public class SearchRepository {
             predicates.add(cb.equal(article.get("tradeStatus"), tradeStatus));
         }
 
-        // 주소
-        if (address != null && !address.isEmpty()) {
-            String addr1 = address.get(0).getAddr1();
-            String addr2 = address.get(0).getAddr2();
-
-            if (addr1.endsWith("시") && addr2.endsWith("구")) {
-                predicates.add(cb.equal(article.get("addr1"), addr1));
-                predicates.add(cb.equal(article.get("addr2"), addr2));
-            } else if (addr1.endsWith("구")) {
-                predicates.add(cb.equal(article.get("addr2"), addr1));
-            }
+        // 지역 (region_id, trade_status, created_date 인덱스)
+        if (regionIds != null) {
+            predicates.add(article.get("regionId").in(regionIds));
         }
 
         cq.select(cb.count(article)).where(predicates.toArray(new Predicate[0]));
@@ -0,0 +1,190 @@
+package org.duckdns.bidbuy.app.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.domain.Category;
+import org.duckdns.bidbuy.app.article.domain.TradeMethod;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.event.ArticleChangedEvent;
+import org.duckdns.bidbuy.app.article.event.ArticleSnapshot;
+import org.duckdns.bidbuy.app.search.repository.SearchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 검색 게시글 총 수 캐시
+// 검색어가 없는 조회는 (카테고리, 거래 방식, 거래 상태) 칸별 개수를 메모리에 두고 합산해서 바로 응답
+// 검색어/지역 조건이 있는 조회는 조건 조합을 키로 짧은 TTL 동안 COUNT 결과를 재사용하고, 게시글이 바뀌면 비운다
+// 칸별 개수는 서버(인스턴스)마다 따로 있고 이 서버에서 커밋된 변경만 바로 반영된다
+// 다른 서버에서 바뀐 게시글은 다음 resync 까지 반영되지 않으므로 여러 대로 띄우면 최대 resync 주기만큼 어긋날 수 있는 근사값이다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchCountCache {
+
+    private final SearchRepository searchRepository;
+
+    @Value("${search.count-cache.ttl-ms:10000}")
+    private long ttlMs;
+
+    @Value("${search.count-cache.max-size:5000}")
+    private int maxSize;
+
+    private volatile Map<Cell, AtomicLong> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    // resync 의 GROUP BY 가 도는 동안 들어온 증감, 새 칸에 다시 더한 뒤 교체한다 (resync 중이 아니면 null)
+    private Map<Cell, Long> pendingDeltas;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public long totalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, Supplier<Long> loader) {
+        if ((content == null || content.trim().isEmpty()) && ready) {
+            return sumCells(category, tradeMethod, tradeStatus);
+        }
+        String key = "search|" + category + "|" + tradeMethod + "|" + tradeStatus + "|" + normalize(content);
+        return cached(key, loader);
+    }
+
+    // 검색어 없는 패싯: 칸별 개수를 (category, tradeMethod, tradeStatus, count) 그룹 결과 형태로 반환, 동기화 전이면 null
+    public List<Object[]> facetGroups() {
+        if (!ready) {
+            return null;
+        }
+        List<Object[]> groups = new ArrayList<>();
+        for (Map.Entry<Cell, AtomicLong> entry : cells.entrySet()) {
+            Cell cell = entry.getKey();
+            groups.add(new Object[]{cell.category(), cell.tradeMethod(), cell.tradeStatus(), entry.getValue().get()});
+        }
+        return groups;
+    }
+
+    public long locationCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String addr1, String addr2, Supplier<Long> loader) {
+        String key = "location|" + category + "|" + tradeMethod + "|" + tradeStatus + "|" + addr1 + "|" + addr2;
+        return cached(key, loader);
+    }
+
+    // 커밋된 게시글 변경만 반영, 바뀌기 전 칸에서 빼고 바뀐 후 칸에 더함
+    // resync 의 교체와 겹치지 않도록 잠금 안에서 반영 (커밋마다 한 번, 칸 두 개만 바꾸므로 짧다)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        synchronized (this) {
+            if (event.getBefore() != null) {
+                apply(toCell(event.getBefore()), -1);
+            }
+            if (event.getAfter() != null) {
+                apply(toCell(event.getAfter()), 1);
+            }
+        }
+        counts.clear();
+    }
+
+    // 기동시 및 주기적으로 GROUP BY 집계로 칸별 개수를 다시 맞춤 (이벤트 누락 등으로 어긋난 값 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${search.count-cache.resync-interval-ms:600000}", fixedDelayString = "${search.count-cache.resync-interval-ms:600000}")
+    // 집계가 도는 동안 커밋된 변경은 pendingDeltas 에 따로 모아 두었다가 새 칸에 더한 뒤 교체하므로 잃지 않는다
+    // 집계 직전에 커밋되고 이벤트가 늦게 도착한 변경은 두 번 반영될 수 있지만 다음 resync 에서 다시 맞춰진다
+    public void resync() {
+        synchronized (this) {
+            if (pendingDeltas != null) {
+                return;
+            }
+            pendingDeltas = new HashMap<>();
+        }
+
+        Map<Cell, AtomicLong> fresh = new ConcurrentHashMap<>();
+        try {
+            for (Object[] group : searchRepository.facetCounts(null)) {
+                fresh.put(new Cell((Category) group[0], (TradeMethod) group[1], (TradeStatus) group[2]), new AtomicLong((Long) group[3]));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDeltas = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            pendingDeltas.forEach((cell, delta) -> fresh.computeIfAbsent(cell, c -> new AtomicLong()).addAndGet(delta));
+            pendingDeltas = null;
+            cells = fresh;
+            ready = true;
+        }
+        counts.clear();
+        log.info("검색 개수 캐시 동기화 완료: {}칸", fresh.size());
+    }
+
+    private long sumCells(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus) {
+        long total = 0;
+        for (Map.Entry<Cell, AtomicLong> entry : cells.entrySet()) {
+            if (entry.getKey().matches(category, tradeMethod, tradeStatus)) {
+                total += entry.getValue().get();
+            }
+        }
+        return total;
+    }
+
+    private long cached(String key, Supplier<Long> loader) {
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.count;
+        }
+
+        long count = loader.get();
+        if (counts.size() >= maxSize) {
+            counts.clear();
+        }
+        counts.put(key, new CachedCount(count, now + ttlMs));
+        return count;
+    }
+
+    // 잠금 안에서만 호출
+    private void apply(Cell cell, long delta) {
+        cells.computeIfAbsent(cell, c -> new AtomicLong()).addAndGet(delta);
+        if (pendingDeltas != null) {
+            pendingDeltas.merge(cell, delta, Long::sum);
+        }
+    }
+
+    private Cell toCell(ArticleSnapshot article) {
+        return new Cell(article.getCategory(), article.getTradeMethod(), article.getTradeStatus());
+    }
+
+    // LIKE 비교가 대소문자를 구분하지 않으므로 키도 소문자로 맞춤
+    private String normalize(String content) {
+        return content == null ? "" : content.toLowerCase();
+    }
+
+    private record Cell(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus) {
+
+        // 필터가 null 이면 해당 조건은 전체
+        private boolean matches(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus) {
+            return (category == null || category == this.category)
+                    && (tradeMethod == null || tradeMethod == this.tradeMethod)
+                    && (tradeStatus == null || tradeStatus == this.tradeStatus);
+        }
+    }
+
+    private static class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
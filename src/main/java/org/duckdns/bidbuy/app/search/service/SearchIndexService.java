@@ -0,0 +1,72 @@
+package org.duckdns.bidbuy.app.search.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.event.ArticleChangedEvent;
+import org.duckdns.bidbuy.app.article.event.ArticleSnapshot;
+import org.duckdns.bidbuy.app.search.index.ArticleSearchIndex;
+import org.duckdns.bidbuy.app.search.index.RegionArticleIndex;
+import org.duckdns.bidbuy.app.search.repository.SearchRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final RegionArticleIndex regionArticleIndex;
+    private final SearchRepository searchRepository;
+
+    // 서버 기동시 DB 에서 전체 게시글을 id 순으로 읽어 인덱스를 다시 만든다 (region_id 백필 이후)
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        articleSearchIndex.clear();
+        regionArticleIndex.clear();
+
+        Long lastId = 0L;
+        while (true) {
+            List<Object[]> rows = searchRepository.findIndexRows(lastId, REBUILD_BATCH_SIZE);
+            for (Object[] row : rows) {
+                articleSearchIndex.index((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+                regionArticleIndex.add((Long) row[4], (Long) row[0]);
+            }
+            if (rows.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+
+        articleSearchIndex.markReady();
+        regionArticleIndex.markReady();
+        log.info("검색 인덱스 생성 완료: {}건, {}ms", articleSearchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getBefore() != null) {
+            regionArticleIndex.remove(event.getBefore().getRegionId(), event.getArticleId());
+        }
+        if (event.getAfter() != null) {
+            regionArticleIndex.add(event.getAfter().getRegionId(), event.getArticleId());
+        }
+
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            articleSearchIndex.remove(event.getArticleId());
+            return;
+        }
+        ArticleSnapshot article = event.getAfter();
+        articleSearchIndex.index(article.getId(), article.getTitle(), article.getAddr1(), article.getAddr2());
+    }
+}
@@ -0,0 +1,41 @@
+package org.duckdns.bidbuy.app.search.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 검색 병렬 실행 지표, 순차 실행 시 걸렸을 시간(각 쿼리 시간의 합) 과 실제 걸린 시간의 차이를 누적
+@Component
+public class SearchMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder sequentialNanos = new LongAdder();
+    private final LongAdder wallNanos = new LongAdder();
+
+    public void record(long sequentialNanos, long wallNanos) {
+        requests.increment();
+        this.sequentialNanos.add(sequentialNanos);
+        this.wallNanos.add(wallNanos);
+    }
+
+    public void recordTimeout() {
+        timeouts.increment();
+    }
+
+    public Map<String, Long> getStats() {
+        long sequentialMs = TimeUnit.NANOSECONDS.toMillis(sequentialNanos.sum());
+        long wallMs = TimeUnit.NANOSECONDS.toMillis(wallNanos.sum());
+
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("timeouts", timeouts.sum());
+        stats.put("sequentialMs", sequentialMs);
+        stats.put("wallMs", wallMs);
+        stats.put("latencySavedMs", Math.max(0, sequentialMs - wallMs));
+        return stats;
+    }
+}
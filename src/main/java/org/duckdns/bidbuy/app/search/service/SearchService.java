@@ -2,43 +2,228 @@ package org.duckdns.bidbuy.app.search.service;
 
 import lombok.RequiredArgsConstructor;
 import org.duckdns.bidbuy.app.article.domain.*;
-import org.duckdns.bidbuy.app.article.dto.ArticleResponse;
-import org.duckdns.bidbuy.app.search.dto.UserResponse;
+import org.duckdns.bidbuy.app.article.service.ViewCountService;
+import org.duckdns.bidbuy.app.region.service.RegionService;
+import org.duckdns.bidbuy.app.search.dto.*;
+import org.duckdns.bidbuy.app.search.exception.SearchTimeoutException;
+import org.duckdns.bidbuy.app.search.index.RegionArticleIndex;
+import org.duckdns.bidbuy.app.search.repository.SearchDeadline;
+import org.duckdns.bidbuy.app.search.repository.SearchOrder;
 import org.duckdns.bidbuy.app.search.repository.SearchRepository;
-import org.duckdns.bidbuy.app.user.domain.User;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.duckdns.bidbuy.global.error.InvalidCursorException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class SearchService {
 
     private final SearchRepository searchRepository;
+    private final ThreadPoolTaskExecutor searchExecutor;
+    private final SearchMetrics searchMetrics;
+    private final SearchCountCache searchCountCache;
+    private final RegionService regionService;
+    private final RegionArticleIndex regionArticleIndex;
+    private final ViewCountService viewCountService;
+
+    @Value("${search.parallel.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // 검색 페이지, 게시글 총 수, 좋아요 목록을 검색 풀에서 동시에 조회 (각 조회는 저장소의 읽기 전용 트랜잭션에서 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SearchResponse searchPage(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, String orderBy,
+                                     int page, int size, String cursor, Long id) {
+        // 잘못된 커서는 쿼리를 보내기 전에 거절
+        SearchOrder order = SearchOrder.from(orderBy);
+        KeysetCursor keysetCursor = cursor == null ? null : decodeCursor(order, cursor);
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        LongAdder busyNanos = new LongAdder();
+
+        CompletableFuture<SearchSlice> articles = submit(busyNanos, deadline, () -> cursor != null
+                ? sliceAfter(category, tradeMethod, tradeStatus, content, order, keysetCursor, size)
+                : new SearchSlice(searchRepository.search(category, tradeMethod, tradeStatus, content, orderBy, page, size), null));
+
+        CompletableFuture<Long> totalCount = submit(busyNanos, deadline,
+                () -> totalCount(category, tradeMethod, tradeStatus, content));
+
+        // 좋아요 여부는 페이지 게시글 id 가 나온 뒤 한 번에 조회
+        CompletableFuture<List<LikeArticleResponse>> likes = id == null
+                ? CompletableFuture.completedFuture(new ArrayList<>())
+                : articles.thenApplyAsync(slice -> timed(busyNanos, deadline, () -> markLiked(id, slice.getArticles())), searchExecutor);
 
-    public List<Article> search(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, String orderBy, int page, int size) {
-        return searchRepository.search(category, tradeMethod, tradeStatus, content, orderBy, page, size);
+        join(articles, totalCount, likes);
+        searchMetrics.record(busyNanos.sum(), System.nanoTime() - start);
+
+        SearchSlice slice = articles.join();
+        mergePendingViewCounts(order, slice.getArticles());
+        return new SearchResponse(totalCount.join(), slice.getArticles(), likes.join(), slice.getNextCursor());
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수를 더해서 내려줌 (커서는 DB 값 기준으로 먼저 만든 뒤에 적용)
+    // 조회수순 (hot) 은 DB 값으로 정렬했으므로 표시도 DB 값 그대로 (더하면 페이지 안에서 순서가 어긋남), 순위는 flush 주기만큼 늦음
+    private List<SearchArticleResponse> mergePendingViewCounts(SearchOrder order, List<SearchArticleResponse> articles) {
+        if (order == SearchOrder.HOT) {
+            return articles;
+        }
+        for (SearchArticleResponse article : articles) {
+            article.addPendingViewCount(viewCountService.pendingCount(article.getId()));
+        }
+        return articles;
+    }
+
+    private KeysetCursor decodeCursor(SearchOrder order, String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        // 다른 정렬 기준으로 만든 커서는 이어 읽을 수 없음
+        if (!order.getOrderBy().equals(keysetCursor.getSortKey())) {
+            throw new InvalidCursorException(cursor);
+        }
+        // 정렬 값이 컬럼 타입으로 읽히지 않는 커서(latest|abc|5 등)도 같은 400 으로 거절
+        if (keysetCursor.getLastValue() != null && !order.isIdOnly()) {
+            try {
+                order.parseValue(keysetCursor.getLastValue());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new InvalidCursorException(cursor);
+            }
+        }
+        return keysetCursor;
+    }
+
+    private SearchSlice sliceAfter(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content, SearchOrder order, KeysetCursor keysetCursor, int size) {
+        List<SearchArticleResponse> articles = searchRepository.searchAfter(category, tradeMethod, tradeStatus, content, order, keysetCursor, size);
+
+        // 한 페이지를 다 채웠을 때만 다음 커서를 내려줌
+        String nextCursor = null;
+        if (!articles.isEmpty() && articles.size() == size) {
+            SearchArticleResponse last = articles.get(articles.size() - 1);
+            nextCursor = new KeysetCursor(order.getOrderBy(), order.valueOf(last), last.getId()).encode();
+        }
+        return new SearchSlice(articles, nextCursor);
+    }
+
+    private <T> CompletableFuture<T> submit(LongAdder busyNanos, long deadline, Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> timed(busyNanos, deadline, query), searchExecutor);
+    }
+
+    // 각 쿼리에는 요청 마감 시각까지 남은 시간이 timeout 으로 걸린다 (SearchDeadline)
+    private <T> T timed(LongAdder busyNanos, long deadline, Supplier<T> query) {
+        long start = System.nanoTime();
+        try {
+            return SearchDeadline.run(deadline, query);
+        } finally {
+            busyNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    // 요청 단위 제한 시간 안에 모두 끝나지 않으면 응답은 바로 실패시키고 future 도 취소
+    // 취소는 아직 시작하지 않은 조회만 막고, 실행 중인 쿼리는 쿼리 timeout 으로 DB 에서 끊긴다
+    private void join(CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            for (CompletableFuture<?> future : futures) {
+                future.cancel(true);
+            }
+            searchMetrics.recordTimeout();
+            throw new SearchTimeoutException(timeoutMs);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
     }
 
     public Long totalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String content) {
-        return searchRepository.totalCount(category, tradeMethod, tradeStatus, content);
+        return searchCountCache.totalCount(category, tradeMethod, tradeStatus, content,
+                () -> searchRepository.totalCount(category, tradeMethod, tradeStatus, content));
     }
 
-    public List<LikeArticle> findLikeArticles(Category category, TradeMethod tradeMethod, String content, Long id) {
-        return searchRepository.findLikeArticles(category, tradeMethod, content, id);
+    // 검색어가 없으면 메모리의 칸별 개수로 응답하고, 검색어가 있을 때만 GROUP BY 조회
+    public SearchFacetResponse facets(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            List<Object[]> groups = searchCountCache.facetGroups();
+            if (groups != null) {
+                return new SearchFacetResponse(groups);
+            }
+        }
+        return new SearchFacetResponse(searchRepository.facetCounts(content));
     }
 
-    public List<User> findUserAddress(Long id) {
+    // 페이지 게시글에 liked 표시를 채우고, 페이지 범위의 좋아요 목록을 반환
+    public List<LikeArticleResponse> markLiked(Long userId, List<SearchArticleResponse> articles) {
+        List<Long> articleIds = articles.stream()
+                .map(SearchArticleResponse::getId)
+                .collect(toList());
+
+        List<LikeArticleResponse> likes = searchRepository.findPageLikes(userId, articleIds);
+        Set<Long> likedIds = likes.stream()
+                .map(LikeArticleResponse::getArticle_id)
+                .collect(toSet());
+
+        for (SearchArticleResponse article : articles) {
+            article.setLiked(likedIds.contains(article.getId()));
+        }
+        return likes;
+    }
+
+    public List<UserResponse> findUserAddress(Long id) {
         return searchRepository.findUserAddress(id);
     }
 
-    public List<Article> searchLocation(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String orderBy, int page, int size, List<UserResponse> address) {
-        return searchRepository.searchLocation(category, tradeMethod, tradeStatus, orderBy, page, size, address);
+    public List<SearchArticleResponse> searchLocation(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, String orderBy, int page, int size, List<UserResponse> address) {
+        List<Long> regionIds = neighborhoodRegionIds(address);
+        // 지역 인덱스에 게시글이 없으면 DB 조회 생략
+        if (regionIds != null && Long.valueOf(0L).equals(regionArticleIndex.count(regionIds))) {
+            return new ArrayList<>();
+        }
+        return mergePendingViewCounts(SearchOrder.from(orderBy), searchRepository.searchLocation(category, tradeMethod, tradeStatus, orderBy, page, size, regionIds));
     }
 
     public Long myLocationtotalCount(Category category, TradeMethod tradeMethod, TradeStatus tradeStatus, List<UserResponse> address) {
-        return searchRepository.myLocationtotalCount(category, tradeMethod, tradeStatus, address);
+        List<Long> regionIds = neighborhoodRegionIds(address);
+        // 지역 외 조건이 없으면 지역 인덱스로 바로 계산
+        if (regionIds != null && category == null && tradeMethod == null && tradeStatus == null) {
+            Long count = regionArticleIndex.count(regionIds);
+            if (count != null) {
+                return count;
+            }
+        }
+        String addr1 = address == null || address.isEmpty() ? null : address.get(0).getAddr1();
+        String addr2 = address == null || address.isEmpty() ? null : address.get(0).getAddr2();
+        return searchCountCache.locationCount(category, tradeMethod, tradeStatus, addr1, addr2,
+                () -> searchRepository.myLocationtotalCount(category, tradeMethod, tradeStatus, regionIds));
+    }
+
+    // 유저 주소 -> 내 주변 region id 목록 (null 이면 지역 조건 없음)
+    private List<Long> neighborhoodRegionIds(List<UserResponse> address) {
+        if (address == null || address.isEmpty()) {
+            return null;
+        }
+        UserResponse user = address.get(0);
+        return regionService.neighborhoodRegionIds(user.getAddr1(), user.getAddr2(), user.getRegionId());
     }
 }
@@ -1,16 +1,28 @@
 package org.duckdns.bidbuy.app.user.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.duckdns.bidbuy.app.article.service.ImageDeleteOutboxService;
+import org.duckdns.bidbuy.app.search.service.SearchMetrics;
 import org.duckdns.bidbuy.app.user.domain.UserRole;
 import org.duckdns.bidbuy.global.auth.domain.LoginResponse;
+import org.duckdns.bidbuy.global.auth.jwt.JWTTokenCache;
 import org.duckdns.bidbuy.global.common.response.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/v2")
 public class AdminController {
+
+  private final JWTTokenCache jwtTokenCache;
+  private final SearchMetrics searchMetrics;
+  private final ImageDeleteOutboxService imageDeleteOutboxService;
+
   @RequestMapping("/admin")
   public String admin() {
     return "admin";
@@ -21,6 +33,21 @@ public class AdminController {
     return ResponseEntity.ok(new ApiResponse<>("200", "success", new LoginResponse(1L, UserRole.USER,"username", "name", "email")));
   }
 
+  @GetMapping("/admin/token-cache")
+  public ResponseEntity<ApiResponse<Map<String, Long>>> tokenCacheStats() {
+    return ResponseEntity.ok(new ApiResponse<>("200", "success", jwtTokenCache.getStats()));
+  }
+
+  @GetMapping("/admin/search-stats")
+  public ResponseEntity<ApiResponse<Map<String, Long>>> searchStats() {
+    return ResponseEntity.ok(new ApiResponse<>("200", "success", searchMetrics.getStats()));
+  }
+
+  @GetMapping("/admin/image-delete-stats")
+  public ResponseEntity<ApiResponse<Map<String, Long>>> imageDeleteStats() {
+    return ResponseEntity.ok(new ApiResponse<>("200", "success", imageDeleteOutboxService.getStats()));
+  }
+
   @GetMapping("/manager")
   public ResponseEntity<ApiResponse<String>> manager() {
     return ResponseEntity.ok(new ApiResponse<>("200", "success", "manager"));
@@ -69,10 +69,12 @@ public class UserController {
     public ResponseEntity<ApiResponse<PageResponseDTO<List<MySalesResponse>>>> getUserSales(
             @PageableDefault( page=0, size = 4) Pageable pageable,
             @RequestParam(name = "tradeStatus") TradeStatus tradeStatus,
-            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting) {
+            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice) {
 
         // batch
-        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getMySales(sorting,tradeStatus, pageable);
+        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getMySales(sorting,tradeStatus, pageable, cursor, slice);
         ApiResponse<PageResponseDTO<List<MySalesResponse>>> response = new ApiResponse<>("200", "판매중인 상품목록을 불러오는데 성공하였습니다.", responseDTO);
         return ResponseEntity.ok(response);
     }
@@ -81,9 +83,11 @@ public class UserController {
     @GetMapping(value = "/me/likes")
     public ResponseEntity<ApiResponse<PageResponseDTO<List<MySalesResponse>>>> getUserLikeArticles(
             @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting,
-            @PageableDefault(page = 0, size = 4) Pageable pageable) {
+            @PageableDefault(page = 0, size = 4) Pageable pageable,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice) {
 
-        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getLikeArticles(sorting, pageable);
+        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getLikeArticles(sorting, pageable, cursor, slice);
 
         ApiResponse<PageResponseDTO<List<MySalesResponse>>> response = new ApiResponse<>("200", "판매중인 상품목록을 불러오는데 성공하였습니다.", responseDTO);
         return ResponseEntity.ok(response);
@@ -94,9 +98,11 @@ public class UserController {
     public ResponseEntity<ApiResponse<PageResponseDTO<List<MySalesResponse>>>> getUserOffers(
             @PageableDefault( page=0, size = 4) Pageable pageable,
             @RequestParam(name = "tradeStatus") TradeStatus tradeStatus,
-            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting) {
+            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice) {
 
-        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getMyOffers(tradeStatus, sorting,pageable);
+        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getMyOffers(tradeStatus, sorting,pageable, cursor, slice);
         ApiResponse<PageResponseDTO<List<MySalesResponse>>> response = new ApiResponse<>("200", "가격제안한 상품목록을 불러오는데 성공하였습니다.", responseDTO);
         return ResponseEntity.ok(response);
     }
@@ -106,9 +112,11 @@ public class UserController {
     public ResponseEntity<ApiResponse<PageResponseDTO<List<MySalesResponse>>>> getUserBuys(
             @PageableDefault( page=0, size = 4) Pageable pageable,
             @RequestParam(name = "tradeStatus") TradeStatus tradeStatus,
-            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting) {
+            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice) {
 
-        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getMyBuys(tradeStatus, sorting,pageable);
+        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getMyBuys(tradeStatus, sorting,pageable, cursor, slice);
         ApiResponse<PageResponseDTO<List<MySalesResponse>>> response = new ApiResponse<>("200", "구매내역을 불러오는데 성공하였습니다.", responseDTO);
         return ResponseEntity.ok(response);
     }
@@ -137,10 +145,12 @@ public class UserController {
             @PathVariable(name = "userId") Long userId,
             @PageableDefault( page=0, size = 4) Pageable pageable,
             @RequestParam(name = "tradeStatus") TradeStatus tradeStatus,
-            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting) {
+            @RequestParam(name = "sorting", required = false, defaultValue = "latest") String sorting,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "slice", required = false, defaultValue = "false") boolean slice) {
 //        log.error("다른사용자판매상품 컨트롤러1");
         // batch
-        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getUserSales(userId,tradeStatus, sorting,pageable);
+        PageResponseDTO<List<MySalesResponse>> responseDTO = userService.getUserSales(userId,tradeStatus, sorting,pageable, cursor, slice);
         ApiResponse<PageResponseDTO<List<MySalesResponse>>> response = new ApiResponse<>("200", "판매중인 상품목록을 불러오는데 성공하였습니다.", responseDTO);
         return ResponseEntity.ok(response);
     }
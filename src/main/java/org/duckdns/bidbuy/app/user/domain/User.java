@@ -38,6 +38,10 @@ public class User extends BaseEntity {
     private String addr1;
     private String addr2;
 
+    // addr1/addr2 를 정규화한 지역 id
+    @Column(name = "region_id")
+    private Long regionId;
+
     private String provider;
     private String providerId;
     private String profileImageUrl;
@@ -80,6 +84,10 @@ public class User extends BaseEntity {
         this.setModifiedDate(LocalDateTime.now());
     }
 
+    public void updateRegion(Long regionId) {
+        this.regionId = regionId;
+    }
+
     public void updateScore(Integer score) {
         this.score += score;
         if (this.score < 10) {
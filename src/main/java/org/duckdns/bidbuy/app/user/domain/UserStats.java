@@ -0,0 +1,47 @@
+package org.duckdns.bidbuy.app.user.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.duckdns.bidbuy.global.common.entity.BaseEntity;
+
+// 프로필 화면의 유저별 개수 (판매, 찜, 제안, 구매, 리뷰)
+// 쓰기 경로에서 바로 증감하고, 어긋난 값은 UserStatsService 의 보정 작업이 다시 계산
+@Entity
+@SuperBuilder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(callSuper = true)
+@Table(name = "user_stats")
+public class UserStats extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    private int saleCount;
+    private int likeCount;
+    private int offerCount;
+    private int buyCount;
+    private int reviewCount;
+
+    public boolean sameCounts(UserStats other) {
+        return saleCount == other.saleCount
+                && likeCount == other.likeCount
+                && offerCount == other.offerCount
+                && buyCount == other.buyCount
+                && reviewCount == other.reviewCount;
+    }
+
+    public void updateCounts(UserStats other) {
+        this.saleCount = other.saleCount;
+        this.likeCount = other.likeCount;
+        this.offerCount = other.offerCount;
+        this.buyCount = other.buyCount;
+        this.reviewCount = other.reviewCount;
+    }
+}
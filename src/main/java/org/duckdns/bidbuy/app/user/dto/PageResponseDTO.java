@@ -20,6 +20,15 @@ public class PageResponseDTO<E> {
 
     private int totalCount, prevPage, nextPage, totalPage, current;
 
+    // 커서 페이징으로 요청했을 때 다음 페이지 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 다음 페이지가 있는지 (slice 응답은 전체 개수 없이 이 값만 내려줌)
+    private boolean hasNext;
+
+    // slice 응답이면 true, totalCount/pageNumList 등 개수 기반 값은 채우지 않음
+    private boolean slice;
+
     public PageResponseDTO(List<E> mySalesResponses, Pageable pageable, long total) {
         this.mySalesResponses = mySalesResponses;
         this.pageable = pageable;
@@ -40,5 +49,22 @@ public class PageResponseDTO<E> {
 
         this.prevPage = prev ? start - 1 : 0;
         this.nextPage = next ? end + 1 : 0;
+        this.hasNext = pageable.getOffset() + mySalesResponses.size() < total;
+    }
+
+    public PageResponseDTO(List<E> mySalesResponses, Pageable pageable, long total, boolean hasNext, String nextCursor) {
+        this(mySalesResponses, pageable, total);
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // COUNT 없이 다음 페이지 여부만 내려주는 무한 스크롤용 응답
+    public PageResponseDTO(List<E> mySalesResponses, Pageable pageable, boolean hasNext, String nextCursor) {
+        this.mySalesResponses = mySalesResponses;
+        this.pageable = pageable;
+        this.pageNumList = List.of();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.slice = true;
     }
 }
@@ -0,0 +1,34 @@
+package org.duckdns.bidbuy.app.user.repository;
+
+// 마이페이지 게시글 목록 종류
+// 조건은 ArticleFeedRepository 에서 조합하고, 좋아요/후기 여부는 페이지 id 로 따로 채운다
+public enum ArticleFeed {
+
+    MY_SALES(true, false, false),     // 내 판매 상품
+    USER_SALES(true, true, false),    // 다른 유저의 판매 상품 (로그인 유저의 좋아요 여부)
+    LIKES(false, false, false),       // 내가 찜한 상품
+    OFFERS(false, true, false),       // 내가 가격 제안한 상품
+    BUYS(false, true, true);          // 내가 구매한 상품 (선택된 제안, 거래 완료)
+
+    private final boolean byTradeStatus;
+    private final boolean likedFlag;
+    private final boolean reviewedFlag;
+
+    ArticleFeed(boolean byTradeStatus, boolean likedFlag, boolean reviewedFlag) {
+        this.byTradeStatus = byTradeStatus;
+        this.likedFlag = likedFlag;
+        this.reviewedFlag = reviewedFlag;
+    }
+
+    public boolean isByTradeStatus() {
+        return byTradeStatus;
+    }
+
+    public boolean isLikedFlag() {
+        return likedFlag;
+    }
+
+    public boolean isReviewedFlag() {
+        return reviewedFlag;
+    }
+}
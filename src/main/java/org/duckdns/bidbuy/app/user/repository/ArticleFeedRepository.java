@@ -0,0 +1,155 @@
+package org.duckdns.bidbuy.app.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.duckdns.bidbuy.app.article.domain.Article;
+import org.duckdns.bidbuy.app.article.domain.LikeArticle;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.offer.domain.Offer;
+import org.duckdns.bidbuy.app.user.dto.MySalesResponse;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.duckdns.bidbuy.global.common.paging.KeysetPredicates;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 마이페이지 게시글 목록 (판매/유저 판매/찜/가격 제안/구매) 을 하나의 쿼리 모양으로 조회
+// 목록마다 다른 건 WHERE 조건뿐이고, 정렬은 (정렬 값, id), 좋아요/후기 여부는 페이지 id 로 한 번씩 조회한다
+@Repository
+@RequiredArgsConstructor
+public class ArticleFeedRepository {
+
+    private final EntityManager em;
+
+    // cursor 가 있으면 keyset, 없으면 offset 페이징 (다음 페이지 여부를 알고 싶으면 size 를 하나 크게 요청)
+    @Transactional(readOnly = true)
+    public List<MySalesResponse> findPage(ArticleFeed feed, Long ownerId, Long viewerId, TradeStatus tradeStatus,
+                                          FeedSort sort, long offset, KeysetCursor cursor, int size) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<MySalesResponse> cq = cb.createQuery(MySalesResponse.class);
+        Root<Article> article = cq.from(Article.class);
+
+        cq.select(cb.construct(MySalesResponse.class,
+                article.get("id"),
+                article.get("title"),
+                article.get("price"),
+                article.get("addr1"),
+                article.get("addr2"),
+                article.get("tradeStatus"),
+                article.get("createdDate"),
+                article.get("thumbnailUrl")));
+
+        List<Predicate> predicates = feedPredicates(cb, cq, article, feed, ownerId, tradeStatus);
+        if (cursor != null) {
+            predicates.add(seekPredicate(cb, article, sort, cursor));
+        }
+        cq.where(predicates.toArray(new Predicate[0]));
+
+        // 정렬 값이 같은 행은 id 로 순서를 고정
+        if (sort.isAscending()) {
+            cq.orderBy(cb.asc(article.get(sort.getAttribute())), cb.asc(article.get("id")));
+        } else {
+            cq.orderBy(cb.desc(article.get(sort.getAttribute())), cb.desc(article.get("id")));
+        }
+
+        TypedQuery<MySalesResponse> query = em.createQuery(cq).setMaxResults(size);
+        if (cursor == null) {
+            query.setFirstResult((int) offset);
+        }
+        return fillFlags(feed, viewerId, query.getResultList());
+    }
+
+    // 개수 전용 쿼리: 게시글 행만 센다 (정렬, 프로젝션, 좋아요/후기 조회 없음)
+    @Transactional(readOnly = true)
+    public long count(ArticleFeed feed, Long ownerId, TradeStatus tradeStatus) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Article> article = cq.from(Article.class);
+
+        List<Predicate> predicates = feedPredicates(cb, cq, article, feed, ownerId, tradeStatus);
+        cq.select(cb.count(article)).where(predicates.toArray(new Predicate[0]));
+
+        return em.createQuery(cq).getSingleResult();
+    }
+
+    private List<Predicate> feedPredicates(CriteriaBuilder cb, AbstractQuery<?> query, Root<Article> article,
+                                           ArticleFeed feed, Long ownerId, TradeStatus tradeStatus) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        switch (feed) {
+            case MY_SALES, USER_SALES -> predicates.add(cb.equal(article.get("writer").get("id"), ownerId));
+            case LIKES -> {
+                Subquery<Long> liked = query.subquery(Long.class);
+                Root<LikeArticle> like = liked.from(LikeArticle.class);
+                liked.select(like.get("article").get("id"))
+                        .where(cb.equal(like.get("user").get("id"), ownerId));
+                predicates.add(article.get("id").in(liked));
+            }
+            case OFFERS, BUYS -> {
+                Subquery<Long> offered = query.subquery(Long.class);
+                Root<Offer> offer = offered.from(Offer.class);
+                Predicate byOfferer = cb.equal(offer.get("offerer").get("id"), ownerId);
+                // 구매 내역은 선택된 제안만
+                offered.select(offer.get("article").get("id"))
+                        .where(feed == ArticleFeed.BUYS ? cb.and(byOfferer, cb.isTrue(offer.get("isSelected"))) : byOfferer);
+                predicates.add(article.get("id").in(offered));
+                if (feed == ArticleFeed.BUYS) {
+                    predicates.add(cb.equal(article.get("tradeStatus"), TradeStatus.SOLD_OUT));
+                }
+            }
+        }
+
+        //거래 상태
+        if (feed.isByTradeStatus() && tradeStatus != null) {
+            predicates.add(cb.equal(article.get("tradeStatus"), tradeStatus));
+        }
+
+        // 대표 썸네일이 있는 게시글만
+        predicates.add(cb.isNotNull(article.get("thumbnailUrl")));
+
+        return predicates;
+    }
+
+    // 커서 이후 행 조건
+    @SuppressWarnings("rawtypes")
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Article> article, FeedSort sort, KeysetCursor cursor) {
+        Comparable lastValue = cursor.getLastValue() == null ? null : sort.parseValue(cursor.getLastValue());
+        return KeysetPredicates.after(cb, article.get(sort.getAttribute()), article.get("id"), sort.isAscending(), lastValue, cursor.getLastId());
+    }
+
+    // 좋아요/후기 여부를 페이지 게시글 id 로 한 번씩 조회해서 채움 (목록 쿼리에 LEFT JOIN 을 붙이지 않음)
+    private List<MySalesResponse> fillFlags(ArticleFeed feed, Long viewerId, List<MySalesResponse> articles) {
+        if (articles.isEmpty()) {
+            return articles;
+        }
+
+        List<Long> articleIds = articles.stream()
+                .map(MySalesResponse::getId)
+                .toList();
+
+        if (feed.isLikedFlag()) {
+            Set<Long> likedIds = viewerId == null ? Set.of() : new HashSet<>(em.createQuery(
+                            "select la.article.id from LikeArticle la where la.user.id = :userId and la.article.id in :articleIds", Long.class)
+                    .setParameter("userId", viewerId)
+                    .setParameter("articleIds", articleIds)
+                    .getResultList());
+            articles.forEach(article -> article.setIsLiked(likedIds.contains(article.getId())));
+        }
+
+        if (feed.isReviewedFlag()) {
+            Set<Long> reviewedIds = new HashSet<>(em.createQuery(
+                            "select r.article.id from Review r where r.article.id in :articleIds", Long.class)
+                    .setParameter("articleIds", articleIds)
+                    .getResultList());
+            articles.forEach(article -> article.setIsReviewed(reviewedIds.contains(article.getId())));
+        }
+
+        return articles;
+    }
+}
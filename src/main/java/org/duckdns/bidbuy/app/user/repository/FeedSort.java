@@ -0,0 +1,59 @@
+package org.duckdns.bidbuy.app.user.repository;
+
+import org.duckdns.bidbuy.app.user.dto.MySalesResponse;
+
+import java.time.LocalDateTime;
+
+// 마이페이지 목록 정렬 기준, 같은 값이면 id 로 순서를 고정한다
+public enum FeedSort {
+
+    LATEST("latest", "createdDate", false),
+    HIGH_PRICE("high-price", "price", false),
+    LOW_PRICE("low-price", "price", true);
+
+    private final String sorting;
+    private final String attribute;
+    private final boolean ascending;
+
+    FeedSort(String sorting, String attribute, boolean ascending) {
+        this.sorting = sorting;
+        this.attribute = attribute;
+        this.ascending = ascending;
+    }
+
+    // 모르는 값은 기존처럼 최신순
+    public static FeedSort from(String sorting) {
+        if (sorting != null) {
+            for (FeedSort sort : values()) {
+                if (sort.sorting.equals(sorting)) {
+                    return sort;
+                }
+            }
+        }
+        return LATEST;
+    }
+
+    public String getSorting() {
+        return sorting;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    // 커서에 담을 정렬 값
+    public String valueOf(MySalesResponse article) {
+        Object value = this == LATEST ? article.getCreatedDate() : article.getPrice();
+        return value == null ? null : value.toString();
+    }
+
+    // 커서의 정렬 값을 컬럼 타입으로 변환
+    @SuppressWarnings("rawtypes")
+    public Comparable parseValue(String value) {
+        return this == LATEST ? LocalDateTime.parse(value) : Integer.valueOf(value);
+    }
+}
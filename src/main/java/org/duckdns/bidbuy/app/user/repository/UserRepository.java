@@ -1,11 +1,17 @@
 package org.duckdns.bidbuy.app.user.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.annotation.Nullable;
+import jakarta.persistence.LockModeType;
 import org.duckdns.bidbuy.app.user.domain.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNullApi;
 import org.springframework.stereotype.Repository;
 
@@ -18,5 +24,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByEmail(String email);
 
   Optional<User> findByArticlesId(Long articleId);
+
+  // 같은 유저의 제안 등록/취소를 줄 세우기 위한 행 잠금 (처음 제안 여부 판단을 원자적으로)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT u FROM User u WHERE u.id = :id")
+  Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+  // region_id 백필용
+  @Query("SELECT DISTINCT u.addr1, u.addr2 FROM User u WHERE u.regionId IS NULL AND u.addr1 IS NOT NULL AND u.addr2 IS NOT NULL")
+  List<Object[]> findUnresolvedAddresses();
+
+  @Modifying
+  @Query("UPDATE User u SET u.regionId = :regionId WHERE u.regionId IS NULL AND u.addr1 = :addr1 AND u.addr2 = :addr2")
+  int updateRegionId(@Param("regionId") Long regionId, @Param("addr1") String addr1, @Param("addr2") String addr2);
 }
 
@@ -0,0 +1,73 @@
+package org.duckdns.bidbuy.app.user.repository;
+
+import jakarta.persistence.LockModeType;
+import org.duckdns.bidbuy.app.user.domain.UserStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 증감은 읽지 않고 SQL 로 바로 반영, 행이 없으면 0 건 (UserStatsService 가 upsert 로 만들고 보정 대상으로 표시)
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.saleCount = s.saleCount + :delta WHERE s.userId = :userId")
+    int addSaleCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.likeCount = s.likeCount + :delta WHERE s.userId = :userId")
+    int addLikeCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.offerCount = s.offerCount + :delta WHERE s.userId = :userId")
+    int addOfferCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.buyCount = s.buyCount + :delta WHERE s.userId = :userId")
+    int addBuyCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE UserStats s SET s.reviewCount = s.reviewCount + :delta WHERE s.userId = :userId")
+    int addReviewCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    // 행이 없을 때의 증감, 동시에 들어와도 한 행에 합쳐짐 (증감은 VALUES() 로 더함)
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, sale_count, like_count, offer_count, buy_count, review_count, created_date, modified_date)
+            VALUES (:userId, :sale, :like, :offer, :buy, :review, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                sale_count = sale_count + VALUES(sale_count),
+                like_count = like_count + VALUES(like_count),
+                offer_count = offer_count + VALUES(offer_count),
+                buy_count = buy_count + VALUES(buy_count),
+                review_count = review_count + VALUES(review_count),
+                modified_date = VALUES(modified_date)
+            """, nativeQuery = true)
+    int upsertCounts(@Param("userId") Long userId, @Param("sale") int sale, @Param("like") int like, @Param("offer") int offer,
+                     @Param("buy") int buy, @Param("review") int review, @Param("now") LocalDateTime now);
+
+    // 계산한 초기값으로 행을 만듦, 이미 있으면 그대로 둠
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_stats (user_id, sale_count, like_count, offer_count, buy_count, review_count, created_date, modified_date)
+            VALUES (:#{#stats.userId}, :#{#stats.saleCount}, :#{#stats.likeCount}, :#{#stats.offerCount},
+                    :#{#stats.buyCount}, :#{#stats.reviewCount}, :#{#stats.createdDate}, :#{#stats.modifiedDate})
+            ON DUPLICATE KEY UPDATE user_id = user_id
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("stats") UserStats stats);
+
+    // 보정 중에는 증감이 끼어들지 않도록 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserStats s WHERE s.userId = :userId")
+    Optional<UserStats> findForUpdate(@Param("userId") Long userId);
+
+    // 전체 보정용, user_id 순으로 끊어서 읽음
+    @Query("SELECT s.userId FROM UserStats s WHERE s.userId > :lastUserId ORDER BY s.userId")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+}
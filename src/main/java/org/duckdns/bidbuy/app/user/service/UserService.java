@@ -1,24 +1,25 @@
 package org.duckdns.bidbuy.app.user.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
 import org.duckdns.bidbuy.app.article.domain.Article;
-import org.duckdns.bidbuy.app.article.domain.LikeArticle;
 import org.duckdns.bidbuy.app.article.domain.TradeStatus;
 import org.duckdns.bidbuy.app.article.exception.LikeArticleNotFoundException;
-import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
-import org.duckdns.bidbuy.app.article.repository.LikeArticleRepository;
 import org.duckdns.bidbuy.app.article.service.ImageUploadService;
-import org.duckdns.bidbuy.app.offer.repository.OfferRepository;
-import org.duckdns.bidbuy.app.review.repository.ReviewRepository;
+import org.duckdns.bidbuy.app.article.service.LikeArticleService;
+import org.duckdns.bidbuy.app.region.service.RegionService;
 import org.duckdns.bidbuy.app.user.dto.*;
 import org.duckdns.bidbuy.app.user.domain.User;
-import org.duckdns.bidbuy.app.user.exception.ForbiddenException;
-import org.duckdns.bidbuy.app.user.exception.NotLoggedInException;
+import org.duckdns.bidbuy.app.user.domain.UserStats;
 import org.duckdns.bidbuy.app.user.exception.PasswordLengthException;
+import org.duckdns.bidbuy.app.user.repository.ArticleFeed;
+import org.duckdns.bidbuy.app.user.repository.ArticleFeedRepository;
+import org.duckdns.bidbuy.app.user.repository.FeedSort;
 import org.duckdns.bidbuy.app.user.repository.UserRepository;
 import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.duckdns.bidbuy.global.error.InvalidCursorException;
 import org.duckdns.bidbuy.global.error.NullInputException;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -34,7 +35,6 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -42,12 +42,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
-    private final ArticleRepository articleRepository;
-    private final LikeArticleRepository likeArticleRepository;
-    private final OfferRepository offerRepository;
-    private final ReviewRepository reviewRepository;
+    private final ArticleFeedRepository articleFeedRepository;
     private final ImageUploadService imageUploadService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final RegionService regionService;
+    private final LikeArticleService likeArticleService;
+    private final UserStatsService userStatsService;
+    private final ArticleDetailCache articleDetailCache;
 
 
     public MyProfileResponse getMyProfile() {
@@ -70,30 +71,10 @@ public class UserService {
                 .role(user.getRole())
                 .build();
 
-        // fetch 가 답인건가요..?
-        // 테이블마다 user_id 컬럼에 index 넣자 그러면 조회 좀 빨라짐 왜? 유저 순으로 정렬되니까
-        // index로 해결했다 --........
-        // fetch + index......... 꺄아아아아아악
-
-        // cache 저장소 운영 - 사실 세션에 담아도 되지만, 클라이언트 종속되니까 안됨
-        // cache에 자주 쓰는 데이터 넣어놈, 업데이트함 사용자 잡 정도
-        // { userid =1 , {
-        //      countarticle: 10,
-        //      countlove : 10,
-        //
-        // } }
-        // nosql ..?
-        // 쉬운거 1. 다 칼럼으로 만들어서 user 테이블에 소속
-        // 쉬운거 2. 인덱스 하나씩만 박고 쏟아지는 select 쿼리 감내
-        // 어려운거 1. 처음보는 cache
-
-        int countSale = articleRepository.countByWriter_Id(userId);
-        int countLike = likeArticleRepository.countByUser_id(userId);
-        int countOffer = offerRepository.countByOfferer_id(userId);
-        int countBuy = offerRepository.countBuy(userId);
-        int countReview = reviewRepository.countByRevieweeIdOrReviewerId(userId,userId);
-
-        return  MyProfileResponse.from(userDto, countSale, countLike, countOffer, countBuy,countReview);
+        // 개수는 user_stats 에서 PK 조회 한 번
+        UserStats stats = userStatsService.getStats(userId);
+
+        return  MyProfileResponse.from(userDto, stats.getSaleCount(), stats.getLikeCount(), stats.getOfferCount(), stats.getBuyCount(), stats.getReviewCount());
     }
 
     public MyProfileResponse getUserProfile(Long userId) {
@@ -115,198 +96,109 @@ public class UserService {
                 .role(user.getRole())
                 .build();
 
-        int countSale = articleRepository.countByWriter_Id(userId);
-        int countLike = likeArticleRepository.countByUser_id(userId);
-        int countOffer = offerRepository.countByOfferer_id(userId);
-        int countBuy = offerRepository.countBuy(userId);
-        int countReview = reviewRepository.countByRevieweeIdOrReviewerId(userId,userId);
+        // 개수는 user_stats 에서 PK 조회 한 번
+        UserStats stats = userStatsService.getStats(userId);
 
-        return  MyProfileResponse.from(userDto, countSale, countLike, countOffer, countBuy,countReview);
+        return  MyProfileResponse.from(userDto, stats.getSaleCount(), stats.getLikeCount(), stats.getOfferCount(), stats.getBuyCount(), stats.getReviewCount());
     }
 
 
-    public PageResponseDTO getMySales(String sorting,TradeStatus status, Pageable pageable) {
+    public PageResponseDTO getMySales(String sorting,TradeStatus status, Pageable pageable, String cursor, boolean slice) {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUser().getId();
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
 
-        Page<MySalesResponse> articles;
-        switch (sorting) {
-            case "latest":
-                articles = articleRepository.findByWriterIdAndTradeStatus(userId, status, pageable);
-                break;
-            case "high-price":
-                articles = articleRepository.findByWriterIdAndTradeStatusOrderByPriceDESC(userId, status, pageable);
-                break;
-            case "low-price":
-                articles =  articleRepository.findByWriterIdAndTradeStatusOrderByPriceASC(userId, status, pageable);
-                break;
-            default:
-                articles = articleRepository.findByWriterIdAndTradeStatus(userId, status, pageable);
-        }
-
-        List<MySalesResponse> responses = articles.getContent();
-
-        PageResponseDTO pageResponseDTO = new PageResponseDTO(responses, pageable, articles.getTotalElements());
-
-        return pageResponseDTO;
+        return feedPage(ArticleFeed.MY_SALES, userId, null, status, sorting, pageable, cursor, slice);
     }
 
-    public PageResponseDTO<List<MySalesResponse>> getUserSales(Long userId, TradeStatus tradeStatus, String sorting,Pageable pageable) {
+    public PageResponseDTO<List<MySalesResponse>> getUserSales(Long userId, TradeStatus tradeStatus, String sorting, Pageable pageable, String cursor, boolean slice) {
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
-        Page<MySalesResponse> articles = null;
 
-        try {
-            var principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-            if (principal instanceof CustomUserDetails customUserDetails) {
-                Long loggedInUserId = customUserDetails.getUser().getId();
-                switch (sorting) {
-                    case "latest":
-                        articles = articleRepository.findByWriterIdAndTradeStatusUserLoggedIn(userId, loggedInUserId, tradeStatus, pageable);
-                        break;
-                    case "high-price":
-                        articles = articleRepository.findByWriterIdAndTradeStatusUserLoggedInOrderByPriceDESC(userId, loggedInUserId, tradeStatus, pageable);
-                        break;
-                    case "low-price":
-                        articles =  articleRepository.findByWriterIdAndTradeStatusUserLoggedInOrderByPriceASC(userId, loggedInUserId, tradeStatus, pageable);
-                        break;
-                    default:
-                        articles = articleRepository.findByWriterIdAndTradeStatusUserLoggedIn(userId, loggedInUserId, tradeStatus, pageable);
-                }
-            }else if(principal instanceof String){
-                switch (sorting) {
-                    case "latest":
-                        articles =  articleRepository.findByWriterIdAndTradeStatusUser(userId, tradeStatus, pageable);
-                        break;
-                    case "high-price":
-                        articles = articleRepository.findByWriterIdAndTradeStatusUserOrderByPriceDESC(userId, tradeStatus, pageable);
-                        break;
-                    case "low-price":
-                        articles =  articleRepository.findByWriterIdAndTradeStatusUserOrderByPriceASC(userId, tradeStatus, pageable);
-                        break;
-                    default:
-                        articles = articleRepository.findByWriterIdAndTradeStatusUser(userId, tradeStatus, pageable);
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("Error getting user sales: {}", e.getMessage());
-            throw new RuntimeException("Error getting user sales", e);
+        // 비로그인이면 좋아요 여부는 모두 false
+        Long loggedInUserId = null;
+        var principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof CustomUserDetails customUserDetails) {
+            loggedInUserId = customUserDetails.getUser().getId();
         }
-        List<MySalesResponse> responses = articles.getContent();
-        PageResponseDTO pageResponseDTO = new PageResponseDTO(responses, pageable, articles.getTotalElements());
 
-        return pageResponseDTO;
+        return feedPage(ArticleFeed.USER_SALES, userId, loggedInUserId, tradeStatus, sorting, pageable, cursor, slice);
     }
 
-    public PageResponseDTO getLikeArticles(String sort, Pageable pageable) {
+    public PageResponseDTO getLikeArticles(String sort, Pageable pageable, String cursor, boolean slice) {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUser().getId();
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
 
-//        Page<Object[]> articles = articleRepository.findArticlesByUserIdWithLikes(userId,pageable);
-        Page<MySalesResponse> articles;
-        switch (sort) {
-            case "latest":
-                articles = articleRepository.findArticlesByUserIdWithLikes(userId, pageable);
-                break;
-            case "high-price":
-                articles = articleRepository.findArticlesByUserIdWithLikesOrderByPriceDesc(userId, pageable);
-                break;
-            case "low-price":
-                articles = articleRepository.findArticlesByUserIdWithLikesOrderByPriceAsc(userId, pageable);
-                break;
-            default:
-                articles = articleRepository.findArticlesByUserIdWithLikes(userId, pageable);
-        }
-        List<MySalesResponse> responses = articles.getContent();
-
-        PageResponseDTO pageResponseDTO = new PageResponseDTO(responses, pageable, articles.getTotalElements());
-        return pageResponseDTO;
+        return feedPage(ArticleFeed.LIKES, userId, null, null, sort, pageable, cursor, slice);
     }
 
-    public PageResponseDTO<List<MySalesResponse>> getMyOffers(TradeStatus tradeStatus, String sorting,Pageable pageable) {
+    public PageResponseDTO<List<MySalesResponse>> getMyOffers(TradeStatus tradeStatus, String sorting, Pageable pageable, String cursor, boolean slice) {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUser().getId();
         User user = userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
 
-        Page<MySalesResponse> articles;
-        switch (sorting) {
-            case "latest":
-                articles = articleRepository.getOfferedArticlesByUserId(userId, pageable);
-                break;
-            case "high-price":
-                articles = articleRepository.getOfferedArticlesByUserIdOrderByPriceDESC(userId, pageable);
-                break;
-            case "low-price":
-                articles =  articleRepository.getOfferedArticlesByUserIdOrderByPriceASC(userId, pageable);
-                break;
-            default:
-                articles = articleRepository.getOfferedArticlesByUserId(userId, pageable);
-        }
-        List<MySalesResponse> responses = articles.getContent();
-        PageResponseDTO pageResponseDTO = new PageResponseDTO(responses, pageable, articles.getTotalElements());
-        return pageResponseDTO;
+        return feedPage(ArticleFeed.OFFERS, userId, userId, tradeStatus, sorting, pageable, cursor, slice);
     }
 
     @Transactional
     public String updateLikeArticles(Long articleId) {
-        var principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        log.info("Principal: " + principal);
-        Long userId = null;
-        if (principal instanceof CustomUserDetails customUserDetails) {
-            userId = customUserDetails.getUser().getId();
-            log.info("로그인 상태.");
-        }else if(principal instanceof String) {
-            throw new NotLoggedInException("찜하려면 로그인 하세요");
-        }
+        return likeArticleService.toggle(articleId);
+    }
 
+    public PageResponseDTO<List<MySalesResponse>> getMyBuys(TradeStatus tradeStatus, String sorting, Pageable pageable, String cursor, boolean slice) {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUser().getId();
         userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
 
-        Optional<LikeArticle> likeArticles = likeArticleRepository.findByArticleIdAndUserId(articleId, userId);
-        Optional<Article> article = articleRepository.findById(articleId);
-        if(article.isEmpty()) throw new IllegalArgumentException("게시글이 존재하지 않습니다.");
-        if(article.get().getWriter().getId().equals(userId)) throw new ForbiddenException("본인의 게시글는 찜할 수 없습니다.");
+        return feedPage(ArticleFeed.BUYS, userId, userId, tradeStatus, sorting, pageable, cursor, slice);
+    }
 
-        if(likeArticles.isPresent()){
-            likeArticleRepository.deleteByArticleIdAndUserId(articleId, userId);
-            article.get().minusLikeCount();
-            return "찜한 상품을 목록에서 제거했습니다.";
-        }else{
-            LikeArticle likeArticle = LikeArticle.builder()
-                    .user(User.builder().id(userId).build())
-                    .article(Article.builder().id(articleId).build())
-                    .build();
-
-            article.get().plusLikeCount();
-            likeArticleRepository.save(likeArticle);
-            return "상품을 찜목록에 등록했습니다.";
+    // 마이페이지 목록 공통, cursor 가 null 이면 page 번호로, 빈 문자열이면 커서 페이징의 첫 페이지
+    // slice 면 COUNT 를 건너뛰고 다음 페이지 여부만 내려줌 (무한 스크롤)
+    private PageResponseDTO feedPage(ArticleFeed feed, Long ownerId, Long viewerId, TradeStatus tradeStatus, String sorting,
+                                     Pageable pageable, String cursor, boolean slice) {
+        FeedSort sort = FeedSort.from(sorting);
+        KeysetCursor keysetCursor = cursor == null ? null : decodeCursor(sort, cursor);
+        int size = pageable.getPageSize();
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인
+        List<MySalesResponse> responses = articleFeedRepository.findPage(feed, ownerId, viewerId, tradeStatus, sort,
+                cursor == null ? pageable.getOffset() : 0, keysetCursor, size + 1);
+        boolean hasNext = responses.size() > size;
+        if (hasNext) {
+            responses = responses.subList(0, size);
         }
-    }
 
-    public PageResponseDTO<List<MySalesResponse>> getMyBuys(TradeStatus tradeStatus,String sorting, Pageable pageable) {
-        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Long userId = principal.getUser().getId();
-        userRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
+        String nextCursor = null;
+        if (cursor != null && hasNext) {
+            MySalesResponse last = responses.get(responses.size() - 1);
+            nextCursor = new KeysetCursor(sort.getSorting(), sort.valueOf(last), last.getId()).encode();
+        }
+
+        if (slice) {
+            return new PageResponseDTO(responses, pageable, hasNext, nextCursor);
+        }
+        long total = articleFeedRepository.count(feed, ownerId, tradeStatus);
+        return new PageResponseDTO(responses, pageable, total, hasNext, nextCursor);
+    }
 
-        Page<MySalesResponse> articles;
-        switch (sorting) {
-            case "latest":
-//                log.error("나 맞지?");
-                articles = articleRepository.getOfferedArticlesByUserIdAndIsSelected(userId, pageable);
-                break;
-            case "high-price":
-                articles = articleRepository.getOfferedArticlesByUserIdAndIsSelectedOrderByPriceDESC(userId, pageable);
-                break;
-            case "low-price":
-                articles =  articleRepository.getOfferedArticlesByUserIdAndIsSelectedOrderByPriceASC(userId, pageable);
-                break;
-            default:
-                articles = articleRepository.getOfferedArticlesByUserIdAndIsSelected(userId, pageable);
+    private KeysetCursor decodeCursor(FeedSort sort, String cursor) {
+        if (cursor.isEmpty()) {
+            return null;
+        }
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        // 다른 정렬 기준으로 만든 커서는 이어 읽을 수 없음
+        if (!sort.getSorting().equals(keysetCursor.getSortKey())) {
+            throw new InvalidCursorException(cursor);
+        }
+        try {
+            if (keysetCursor.getLastValue() != null) {
+                sort.parseValue(keysetCursor.getLastValue());
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(cursor);
         }
-        List<MySalesResponse> responses = articles.getContent();
-        PageResponseDTO pageResponseDTO = new PageResponseDTO(responses, pageable, articles.getTotalElements());
-        return pageResponseDTO;
+        return keysetCursor;
     }
 
     // 현재 시간과의 차이 계산
@@ -376,6 +268,9 @@ public class UserService {
         }
 
         user.update(myInfoResponseDTO.getUsername(), myInfoResponseDTO.getAddr1(), myInfoResponseDTO.getAddr2(), bCryptPasswordEncoder.encode(myInfoResponseDTO.getPassword()), imgUrl);
+        user.updateRegion(regionService.resolve(myInfoResponseDTO.getAddr1(), myInfoResponseDTO.getAddr2()));
+        // 게시글 상세의 작성자 카드, 제안자 이름
+        articleDetailCache.evictUserAfterCommit(userId);
 
         userRepository.save(user);
         return "회원정보 수정에 성공했습니다.";
@@ -0,0 +1,184 @@
+package org.duckdns.bidbuy.app.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.article.repository.LikeArticleRepository;
+import org.duckdns.bidbuy.app.offer.repository.OfferRepository;
+import org.duckdns.bidbuy.app.review.repository.ReviewRepository;
+import org.duckdns.bidbuy.app.user.domain.UserStats;
+import org.duckdns.bidbuy.app.user.repository.UserStatsRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 유저 프로필 개수(user_stats) 관리
+// - 쓰기 경로(게시글, 찜, 제안, 판매 완료, 리뷰)는 같은 트랜잭션에서 add() 로 바로 증감
+// - 정확한 증감을 알기 어려운 경우(게시글 삭제로 함께 지워지는 찜/제안 등)는 markDirty() 로 표시하고 보정 작업이 다시 계산
+// - 행이 없는 유저는 처음 조회할 때 계산해서 만들고, 그 전에 들어온 증감은 upsert 로 행을 만든 뒤 보정 작업이 다시 계산
+@Slf4j
+@Service
+public class UserStatsService {
+
+    public enum Counter {
+        SALE, LIKE, OFFER, BUY, REVIEW
+    }
+
+    private static final int REPAIR_BATCH_SIZE = 500;
+
+    private final UserStatsRepository userStatsRepository;
+    private final ArticleRepository articleRepository;
+    private final LikeArticleRepository likeArticleRepository;
+    private final OfferRepository offerRepository;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate requiresNewTransaction;
+
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    public UserStatsService(UserStatsRepository userStatsRepository, ArticleRepository articleRepository, LikeArticleRepository likeArticleRepository,
+                            OfferRepository offerRepository, ReviewRepository reviewRepository, PlatformTransactionManager transactionManager) {
+        this.userStatsRepository = userStatsRepository;
+        this.articleRepository = articleRepository;
+        this.likeArticleRepository = likeArticleRepository;
+        this.offerRepository = offerRepository;
+        this.reviewRepository = reviewRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 프로필 조회용, user_stats PK 조회 한 번
+    public UserStats getStats(Long userId) {
+        return userStatsRepository.findById(userId).orElseGet(() -> initialize(userId));
+    }
+
+    // 호출한 쓰기 트랜잭션 안에서 실행됨
+    // 행이 없으면 INSERT ... ON DUPLICATE KEY UPDATE 로 증감을 남기고 (처음 조회의 생성과 겹쳐도 잃지 않음),
+    // 다른 칸은 0 으로 만들어졌으므로 커밋 후 보정 대상으로 표시
+    public void add(Long userId, Counter counter, int delta) {
+        if (userId == null) {
+            return;
+        }
+        int updated = switch (counter) {
+            case SALE -> userStatsRepository.addSaleCount(userId, delta);
+            case LIKE -> userStatsRepository.addLikeCount(userId, delta);
+            case OFFER -> userStatsRepository.addOfferCount(userId, delta);
+            case BUY -> userStatsRepository.addBuyCount(userId, delta);
+            case REVIEW -> userStatsRepository.addReviewCount(userId, delta);
+        };
+        if (updated > 0) {
+            return;
+        }
+        userStatsRepository.upsertCounts(userId,
+                counter == Counter.SALE ? delta : 0,
+                counter == Counter.LIKE ? delta : 0,
+                counter == Counter.OFFER ? delta : 0,
+                counter == Counter.BUY ? delta : 0,
+                counter == Counter.REVIEW ? delta : 0,
+                LocalDateTime.now());
+        markDirty(List.of(userId));
+    }
+
+    // 커밋 후에 보정 대상으로 등록 (커밋 전 값으로 다시 계산하지 않도록)
+    public void markDirty(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyUserIds.addAll(ids);
+                }
+            });
+        } else {
+            dirtyUserIds.addAll(ids);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user.stats.repair-interval-ms:30000}")
+    public void repairDirty() {
+        for (Long userId : new ArrayList<>(dirtyUserIds)) {
+            dirtyUserIds.remove(userId);
+            try {
+                repair(userId);
+            } catch (RuntimeException e) {
+                log.warn("user_stats 보정 실패, 다음 주기에 재시도: userId={}", userId, e);
+                dirtyUserIds.add(userId);
+            }
+        }
+    }
+
+    // 이벤트 누락 등으로 어긋난 값을 주기적으로 전체 다시 계산
+    @Scheduled(cron = "${user.stats.full-repair-cron:0 0 4 * * *}")
+    public void repairAll() {
+        long start = System.currentTimeMillis();
+        int fixed = 0;
+        Long lastUserId = 0L;
+        while (true) {
+            List<Long> userIds = userStatsRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, REPAIR_BATCH_SIZE));
+            for (Long userId : userIds) {
+                if (repair(userId)) {
+                    fixed++;
+                }
+            }
+            if (userIds.size() < REPAIR_BATCH_SIZE) {
+                break;
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        log.info("user_stats 전체 보정 완료: {}건 수정, {}ms", fixed, System.currentTimeMillis() - start);
+    }
+
+    // 행을 잠근 상태에서 다시 계산, 값이 바뀌었으면 true
+    private boolean repair(Long userId) {
+        Boolean fixed = requiresNewTransaction.execute(status -> {
+            UserStats stats = userStatsRepository.findForUpdate(userId).orElse(null);
+            UserStats computed = compute(userId);
+            if (stats == null) {
+                userStatsRepository.save(computed);
+                return true;
+            }
+            if (stats.sameCounts(computed)) {
+                return false;
+            }
+            stats.updateCounts(computed);
+            stats.setModifiedDate(LocalDateTime.now());
+            return true;
+        });
+        return Boolean.TRUE.equals(fixed);
+    }
+
+    // 계산과 INSERT 사이에 커밋된 증감은 계산 값에 빠질 수 있으므로 만든 뒤 보정 대상으로 표시
+    // 동시에 다른 요청이나 add() 가 먼저 만든 행은 덮어쓰지 않음
+    private UserStats initialize(Long userId) {
+        UserStats computed = compute(userId);
+        requiresNewTransaction.executeWithoutResult(status -> userStatsRepository.insertIfAbsent(computed));
+        markDirty(List.of(userId));
+        return computed;
+    }
+
+    private UserStats compute(Long userId) {
+        return UserStats.builder()
+                .userId(userId)
+                .saleCount(articleRepository.countByWriter_Id(userId))
+                .likeCount(likeArticleRepository.countByUser_id(userId))
+                .offerCount(offerRepository.countByOfferer_id(userId))
+                .buyCount(offerRepository.countBuy(userId))
+                .reviewCount(reviewRepository.countByRevieweeIdOrReviewerId(userId, userId))
+                .createdDate(LocalDateTime.now())
+                .modifiedDate(LocalDateTime.now())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.duckdns.bidbuy.global.auth.domain.RefreshTokenEntity;
 import org.duckdns.bidbuy.global.auth.domain.RefreshTokenRepository;
+import org.duckdns.bidbuy.global.auth.jwt.JWTClaims;
 import org.duckdns.bidbuy.global.auth.jwt.JWTUtil;
 import org.duckdns.bidbuy.global.common.response.ApiResponse;
 import org.springframework.http.HttpStatus;
@@ -57,8 +58,9 @@ public class RefreshTokenController {
         }
 
         //expired check
+        JWTClaims claims;
         try {
-            jwtUtil.isExpired(refreshToken);
+            claims = jwtUtil.parseClaims(refreshToken);
         } catch (ExpiredJwtException e) {
 
             //response status code
@@ -66,7 +68,7 @@ public class RefreshTokenController {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refreshToken);
+        String category = claims.getCategory();
 
         if (!category.equals("refresh")) {
 
@@ -93,9 +95,9 @@ public class RefreshTokenController {
             return ResponseEntity.ok(apiResponse);
         }
 
-        Long userId = jwtUtil.getUserId(refreshToken);
-        String username = jwtUtil.getUsername(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
+        Long userId = claims.getUserId();
+        String username = claims.getUsername();
+        String role = claims.getRole();
 
         //make new JWT
         String newAccess = jwtUtil.createJwt("access", userId, username, role, 60*60*1000L); // 일단 1시간
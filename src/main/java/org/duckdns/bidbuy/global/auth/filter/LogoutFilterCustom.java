@@ -13,6 +13,8 @@ import jakarta.servlet.http.HttpServletResponse;
 
 
 import org.duckdns.bidbuy.global.auth.domain.RefreshTokenRepository;
+import org.duckdns.bidbuy.global.auth.jwt.JWTClaims;
+import org.duckdns.bidbuy.global.auth.jwt.JWTTokenCache;
 import org.duckdns.bidbuy.global.auth.jwt.JWTUtil;
 import org.duckdns.bidbuy.global.common.response.ApiResponse;
 import org.springframework.web.filter.GenericFilterBean;
@@ -24,10 +26,12 @@ public class LogoutFilterCustom extends GenericFilterBean {
 
     private final JWTUtil jwtUtil;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final JWTTokenCache jwtTokenCache;
 
-    public LogoutFilterCustom(JWTUtil jwtUtil, RefreshTokenRepository refreshTokenRepository) {
+    public LogoutFilterCustom(JWTUtil jwtUtil, RefreshTokenRepository refreshTokenRepository, JWTTokenCache jwtTokenCache) {
         this.jwtUtil = jwtUtil;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenCache = jwtTokenCache;
     }
 
     @Override
@@ -70,8 +74,9 @@ public class LogoutFilterCustom extends GenericFilterBean {
         }
 
         //expired check
+        JWTClaims claims;
         try {
-            jwtUtil.isExpired(refreshToken);
+            claims = jwtUtil.parseClaims(refreshToken);
         } catch (ExpiredJwtException e) {
 
             //response status code
@@ -80,7 +85,7 @@ public class LogoutFilterCustom extends GenericFilterBean {
         }
 
         // 토큰이 refresh인지 확인 (발급시 페이로드에 명시)
-        String category = jwtUtil.getCategory(refreshToken);
+        String category = claims.getCategory();
         if (!category.equals("refresh")) {
 
             //response status code
@@ -100,6 +105,13 @@ public class LogoutFilterCustom extends GenericFilterBean {
 
         //로그아웃 진행
 
+        // 캐시된 access 토큰 인증 정보 제거
+        jwtTokenCache.evictUser(claims.getUserId());
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            jwtTokenCache.evict(authorization.split(" ")[1]);
+        }
+
         //Refresh 토큰 Cookie 값 0
         Cookie cookie = new Cookie("refresh", null);
         cookie.setMaxAge(0);
@@ -0,0 +1,29 @@
+package org.duckdns.bidbuy.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명 검증이 끝난 토큰의 페이로드, 한 번 파싱한 결과를 필터 안에서 그대로 넘겨 쓴다
+@Getter
+public class JWTClaims {
+
+    private final String category;
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final Date expiration;
+
+    JWTClaims(Claims claims) {
+        this.category = claims.get("category", String.class);
+        this.userId = claims.get("userid", Long.class);
+        this.username = claims.get("username", String.class);
+        this.role = claims.get("role", String.class);
+        this.expiration = claims.getExpiration();
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -25,9 +25,11 @@ import java.util.Date;
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
+    private final JWTTokenCache jwtTokenCache;
 
-    public JWTFilter(JWTUtil jwtUtil) {
+    public JWTFilter(JWTUtil jwtUtil, JWTTokenCache jwtTokenCache) {
         this.jwtUtil = jwtUtil;
+        this.jwtTokenCache = jwtTokenCache;
     }
 
     @SuppressWarnings({"NullableProblems", "null"})
@@ -70,11 +72,28 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
+        if (!refreshToken.isEmpty()) {
+            String refreshCategory = jwtUtil.getCategory(refreshToken);
+            if (refreshCategory.equals("refresh")) {
+                return;
+            }
+        }
+
+        // 이미 검증된 토큰이면 캐시된 인증 정보를 그대로 사용
+        CustomUserDetails cachedUserDetails = jwtTokenCache.get(accessToken);
+        if (cachedUserDetails != null) {
+            Authentication authToken = new UsernamePasswordAuthenticationToken(cachedUserDetails, null, cachedUserDetails.getAuthorities());
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 토큰 파싱 + 서명 검증은 한 번만 하고, 검증된 claims 를 아래에서 그대로 사용
         // 토큰 만료 여부 확인, 만료시 다음 필터로 넘기지 않음 // 여기는 CustomizedResponseExceptionHandler 가 접근하기 전이라 직접 처리해야함
+        JWTClaims claims;
         try {
-            if (refreshToken.isEmpty()) {
-                jwtUtil.isExpired(accessToken);
-            }
+            claims = jwtUtil.parseClaims(accessToken);
         } catch (ExpiredJwtException e) {
 
             //response body
@@ -109,15 +128,9 @@ public class JWTFilter extends OncePerRequestFilter {
                     + ",\"details\": \"" + e.getMessage() + "\"}");
             return;
         }
-        if (!refreshToken.isEmpty()) {
-            String refreshCategory = jwtUtil.getCategory(refreshToken);
-            if (refreshCategory.equals("refresh")) {
-                return;
-            }
-        }
 
         // 토큰 카테고리가 access 인지 확인 (발급시 페이로드에 명시)
-            String category = jwtUtil.getCategory(accessToken);
+            String category = claims.getCategory();
 
 
             if (!category.equals("access")) {
@@ -131,9 +144,9 @@ public class JWTFilter extends OncePerRequestFilter {
 
 
             // userid, username, role 값을 획득
-            Long userId = jwtUtil.getUserId(accessToken);
-            String username = jwtUtil.getUsername(accessToken);
-            String role = jwtUtil.getRole(accessToken);
+            Long userId = claims.getUserId();
+            String username = claims.getUsername();
+            String role = claims.getRole();
 
             User user = User.builder()
                     .id(userId)
@@ -142,6 +155,7 @@ public class JWTFilter extends OncePerRequestFilter {
                     .build();
 
             CustomUserDetails customUserDetails = new CustomUserDetails(user);
+            jwtTokenCache.put(accessToken, customUserDetails, claims.getExpiration());
 
             Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -0,0 +1,194 @@
+package org.duckdns.bidbuy.global.auth.jwt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 검증이 끝난 access 토큰 -> CustomUserDetails 캐시
+// 같은 토큰으로 들어오는 요청은 HMAC 검증과 User 생성 없이 바로 인증 처리
+// 키는 토큰 원문 대신 SHA-256 digest 를 사용, 토큰 만료 시각이 지나면 꺼내지 않고 제거
+// 조회는 digest 맵 하나만 봄, 보조 인덱스 두 개는 쓰기 쪽에서만 사용
+// - 만료 시각 순 집합: 가득 차면 가장 먼저 만료될 토큰부터 비우고, 만료 정리도 앞에서부터 만료된 것만 봄
+// - 유저별 digest: 로그아웃은 그 유저의 토큰 수만큼만 지움
+@Slf4j
+@Component
+public class JWTTokenCache {
+
+    private static final Comparator<CachedToken> EXPIRY_ORDER =
+            Comparator.comparingLong((CachedToken cached) -> cached.expiresAt).thenComparingLong(cached -> cached.sequence);
+
+    private final int maxSize;
+    private final Map<String, CachedToken> cache = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<CachedToken> byExpiry = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+    private final Map<Long, Set<String>> keysByUser = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public JWTTokenCache(@Value("${spring.jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public CustomUserDetails get(String token) {
+        CachedToken cached = cache.get(digest(token));
+        if (cached == null) {
+            missCount.increment();
+            return null;
+        }
+        if (cached.isExpired(System.currentTimeMillis())) {
+            remove(cached);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return cached.userDetails;
+    }
+
+    public void put(String token, CustomUserDetails userDetails, Date expiration) {
+        if (cache.size() >= maxSize) {
+            evictExpired();
+        }
+        if (cache.size() >= maxSize) {
+            // 만료된 항목을 지워도 가득 차 있으면 10% 정도를 비워서 매 요청마다 정리하지 않게 함
+            evictOverflow(maxSize - maxSize / 10);
+        }
+
+        // 맵에 먼저 넣고 인덱스를 붙임, 인덱스에만 남은 항목은 제거할 때 맵과 맞지 않아 무시됨
+        CachedToken cached = new CachedToken(digest(token), userDetails, expiration.getTime(), sequence.incrementAndGet());
+        CachedToken previous = cache.put(cached.key, cached);
+        if (previous != null) {
+            byExpiry.remove(previous);
+        }
+        byExpiry.add(cached);
+        Long userId = cached.userId();
+        if (userId != null) {
+            keysByUser.compute(userId, (id, keys) -> {
+                Set<String> userKeys = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                userKeys.add(cached.key);
+                return userKeys;
+            });
+        }
+    }
+
+    public void evict(String token) {
+        CachedToken cached = cache.get(digest(token));
+        if (cached != null) {
+            remove(cached);
+        }
+    }
+
+    // 로그아웃시 해당 유저에게 발급된 access 토큰을 모두 제거
+    public void evictUser(Long userId) {
+        Set<String> keys = keysByUser.get(userId);
+        if (keys == null) {
+            return;
+        }
+        for (String key : List.copyOf(keys)) {
+            CachedToken cached = cache.get(key);
+            if (cached != null) {
+                remove(cached);
+            }
+        }
+    }
+
+    // 만료 시각 순으로 앞에서부터 만료된 항목만 제거
+    @Scheduled(fixedDelayString = "${spring.jwt.cache.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (CachedToken cached : byExpiry) {
+            if (!cached.isExpired(now)) {
+                return;
+            }
+            remove(cached);
+        }
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("size", (long) cache.size());
+        stats.put("hit", hitCount.sum());
+        stats.put("miss", missCount.sum());
+        stats.put("eviction", evictionCount.sum());
+        return stats;
+    }
+
+    // 가장 먼저 만료될 토큰부터 비움
+    private void evictOverflow(int targetSize) {
+        while (cache.size() > targetSize) {
+            CachedToken cached = byExpiry.pollFirst();
+            if (cached == null) {
+                return;
+            }
+            remove(cached);
+        }
+    }
+
+    // 세 구조에서 함께 제거, 같은 digest 로 새로 들어온 항목은 건드리지 않음
+    private void remove(CachedToken cached) {
+        byExpiry.remove(cached);
+        if (!cache.remove(cached.key, cached)) {
+            return;
+        }
+        evictionCount.increment();
+        Long userId = cached.userId();
+        if (userId != null) {
+            keysByUser.computeIfPresent(userId, (id, keys) -> {
+                if (!cache.containsKey(cached.key)) {
+                    keys.remove(cached.key);
+                }
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedToken {
+        private final String key;
+        private final CustomUserDetails userDetails;
+        private final long expiresAt;
+        private final long sequence;
+
+        private CachedToken(String key, CustomUserDetails userDetails, long expiresAt, long sequence) {
+            this.key = key;
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+        private Long userId() {
+            return userDetails.getUser().getId();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.duckdns.bidbuy.global.auth.jwt;
 
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,6 +14,8 @@ import java.util.Date;
 public class JWTUtil {
 
     private final SecretKey secretKey;
+    // JwtParser 는 불변 객체라 요청마다 새로 만들지 않고 재사용
+    private final JwtParser jwtParser;
 
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
         this.secretKey =
@@ -22,62 +25,38 @@ public class JWTUtil {
                                 .SIG.HS256.key()
                                 .build()
                                 .getAlgorithm());
-    }
-
-    public Long getUserId(String token) {
-        return
+        this.jwtParser =
                 Jwts
                         .parser()
                         .verifyWith(secretKey)
-                        .build()
+                        .build();
+    }
+
+    public JWTClaims parseClaims(String token) {
+        return new JWTClaims(
+                jwtParser
                         .parseSignedClaims(token)
-                        .getPayload()
-                        .get("userid", Long.class);
+                        .getPayload());
+    }
+
+    public Long getUserId(String token) {
+        return parseClaims(token).getUserId();
     }
 
     public String getUsername(String token) {
-        return
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload()
-                        .get("username", String.class);
+        return parseClaims(token).getUsername();
     }
 
     public String getRole(String token) {
-        return
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload()
-                        .get("role", String.class);
+        return parseClaims(token).getRole();
     }
 
     public String getCategory(String token) {
-        return
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload()
-                        .get("category", String.class);
+        return parseClaims(token).getCategory();
     }
 
     public Boolean isExpired(String token) {
-        return
-                Jwts
-                        .parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload()
-                        .getExpiration()
-                        .before(new Date());
+        return parseClaims(token).isExpired();
     }
 
 
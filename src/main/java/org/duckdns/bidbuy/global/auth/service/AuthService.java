@@ -9,6 +9,7 @@ import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.duckdns.bidbuy.app.article.domain.ProductImage;
 import org.duckdns.bidbuy.app.article.service.ImageUploadService;
+import org.duckdns.bidbuy.app.region.service.RegionService;
 import org.duckdns.bidbuy.app.user.domain.User;
 import org.duckdns.bidbuy.app.user.domain.UserRole;
 import org.duckdns.bidbuy.app.user.dto.EmailCheckReq;
@@ -30,6 +31,7 @@ public class AuthService {
   private final UserRepository userRepository;
   private final BCryptPasswordEncoder bCryptPasswordEncoder;
   private final ImageUploadService imageUploadService;
+  private final RegionService regionService;
 
   public User createUser(SignupRequest userDTO, List<MultipartFile> list) throws IOException {
     Optional<User> isExist = userRepository.findByEmail(userDTO.getEmail());
@@ -70,6 +72,7 @@ public class AuthService {
                                       .offerLevel(1)
                                       .addr1(userDTO.getAddr1())
                                       .addr2(userDTO.getAddr2())
+                                      .regionId(regionService.resolve(userDTO.getAddr1(), userDTO.getAddr2()))
                                       .createdDate(LocalDateTime.now())
                                       .modifiedDate(LocalDateTime.now())
                                       .profileImageUrl(imgUrl)
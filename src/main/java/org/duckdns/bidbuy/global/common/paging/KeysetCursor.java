@@ -0,0 +1,40 @@
+package org.duckdns.bidbuy.global.common.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.duckdns.bidbuy.global.error.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// keyset(seek) 페이징 커서
+// 마지막으로 내려준 행의 (정렬 기준, 정렬 값, id) 를 담아 클라이언트에는 불투명한 문자열로 전달한다
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private String sortKey;
+    private String lastValue;  // 정렬 값이 null 인 행이면 null
+    private Long lastId;
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + (lastValue == null ? "" : lastValue) + DELIMITER + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException(cursor);
+            }
+            String lastValue = parts[1].isEmpty() ? null : parts[1];
+            return new KeysetCursor(parts[0], lastValue, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.duckdns.bidbuy.global.common.paging;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+// keyset 페이징의 "커서 다음 행" 조건, (정렬 값, id) 순서로 비교한다
+// MySQL 은 ASC 에서 null 이 맨 앞, DESC 에서 맨 뒤에 온다
+public final class KeysetPredicates {
+
+    private KeysetPredicates() {
+    }
+
+    // key 가 null 이면 id 내림차순만으로 정렬된 경우
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static Predicate after(CriteriaBuilder cb, Expression<? extends Comparable> key, Expression<Long> id,
+                                  boolean ascending, Comparable lastValue, Long lastId) {
+        if (key == null) {
+            return cb.lessThan(id, lastId);
+        }
+
+        Expression<Comparable> sortKey = (Expression<Comparable>) key;
+        if (ascending) {
+            if (lastValue == null) {
+                return cb.or(
+                        cb.and(cb.isNull(sortKey), cb.greaterThan(id, lastId)),
+                        cb.isNotNull(sortKey)
+                );
+            }
+            return cb.or(
+                    cb.greaterThan(sortKey, lastValue),
+                    cb.and(cb.equal(sortKey, lastValue), cb.greaterThan(id, lastId))
+            );
+        }
+
+        if (lastValue == null) {
+            return cb.and(cb.isNull(sortKey), cb.lessThan(id, lastId));
+        }
+        return cb.or(
+                cb.lessThan(sortKey, lastValue),
+                cb.and(cb.equal(sortKey, lastValue), cb.lessThan(id, lastId)),
+                cb.isNull(sortKey)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package org.duckdns.bidbuy.global.config.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${search.executor.core-size:8}")
+    private int searchCoreSize;
+
+    @Value("${search.executor.max-size:16}")
+    private int searchMaxSize;
+
+    @Value("${search.executor.queue-capacity:200}")
+    private int searchQueueCapacity;
+
+    @Value("${image.upload.executor.core-size:8}")
+    private int imageUploadCoreSize;
+
+    @Value("${image.upload.executor.max-size:16}")
+    private int imageUploadMaxSize;
+
+    @Value("${image.upload.executor.queue-capacity:100}")
+    private int imageUploadQueueCapacity;
+
+    @Value("${image.derivative.executor.queue-capacity:500}")
+    private int imageDerivativeQueueCapacity;
+
+    // 검색 페이지/개수/좋아요 조회를 병렬로 돌리는 풀, 커넥션 풀 크기를 넘지 않도록 제한
+    // 큐가 가득 차면 요청 스레드에서 직접 실행 (순차 실행으로 자연스럽게 감속)
+    @Bean
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(searchCoreSize);
+        executor.setMaxPoolSize(searchMaxSize);
+        executor.setQueueCapacity(searchQueueCapacity);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 게시글 이미지 원본/썸네일을 동시에 올리는 풀, 오브젝트 스토리지 왕복만 하므로 DB 커넥션과 무관
+    // 큐가 가득 차면 요청 스레드에서 직접 실행
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageUploadCoreSize);
+        executor.setMaxPoolSize(imageUploadMaxSize);
+        executor.setQueueCapacity(imageUploadQueueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    // 파생 이미지 디코딩/리사이즈용 CPU 풀, 코어 수만큼만 돌림
+    // 큐가 가득 차면 버림 (파생 이미지가 없는 동안 응답은 원본으로 대체됨)
+    @Bean
+    public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(imageDerivativeQueueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -8,6 +8,7 @@ import org.duckdns.bidbuy.global.auth.domain.RefreshTokenRepository;
 import org.duckdns.bidbuy.global.auth.filter.LoginFilter;
 import org.duckdns.bidbuy.global.auth.filter.LogoutFilterCustom;
 import org.duckdns.bidbuy.global.auth.jwt.JWTFilter;
+import org.duckdns.bidbuy.global.auth.jwt.JWTTokenCache;
 import org.duckdns.bidbuy.global.auth.jwt.JWTUtil;
 import org.duckdns.bidbuy.global.auth.oauth.OAuthSuccessHandler;
 import org.duckdns.bidbuy.global.auth.service.OAuth2UserService;
@@ -40,6 +41,7 @@ public class SecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final RefreshTokenRepository refreshTokenRepository;
     private final JWTUtil jwtUtil;
+    private final JWTTokenCache jwtTokenCache;
     private final OAuth2UserService oAuth2UserService;
     private final OAuthSuccessHandler oAuthSuccessHandler;
 
@@ -76,16 +78,17 @@ public class SecurityConfig {
                 .authorizeHttpRequests((auth) -> auth
                         .requestMatchers(HttpMethod.GET, "/api/v1/reviews/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/articles/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/offers/*/summary").permitAll()
                         .requestMatchers("/api/login","/api/v1/oauth2/redirect/**" ,"/login/oauth2/code/**","/login","/","/user", "/join","/api/v1/auth/**", "/api/v1/users/**","/api/v1/search/**").permitAll()
-                        .requestMatchers("/admin").hasAuthority("ADMIN")  // hasRole("ADMIN") 대신 hasAuthority("ADMIN") 사용
+                        .requestMatchers("/admin", "/api/v2/admin/token-cache", "/api/v2/admin/search-stats", "/api/v2/admin/image-delete-stats").hasAuthority("ADMIN")  // hasRole("ADMIN") 대신 hasAuthority("ADMIN") 사용
                         .requestMatchers("/api/refreshToken").permitAll()
                         .anyRequest().authenticated())
                 .exceptionHandling((exception) -> exception
                         .authenticationEntryPoint((request, response, authException) -> response.sendError(401))
                         .accessDeniedHandler((request, response, accessDeniedException) -> response.sendError(403)))
-                .addFilterBefore(new JWTFilter(jwtUtil), LoginFilter.class)
+                .addFilterBefore(new JWTFilter(jwtUtil, jwtTokenCache), LoginFilter.class)
                 .addFilterAt(new LoginFilter(authenticationManager(),jwtUtil,refreshTokenRepository), UsernamePasswordAuthenticationFilter.class)
-                .addFilterBefore(new LogoutFilterCustom(jwtUtil, refreshTokenRepository), LogoutFilter.class)
+                .addFilterBefore(new LogoutFilterCustom(jwtUtil, refreshTokenRepository, jwtTokenCache), LogoutFilter.class)
                 .sessionManagement((session) -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         return http.build();
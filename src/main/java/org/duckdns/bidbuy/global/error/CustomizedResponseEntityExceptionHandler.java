@@ -12,6 +12,7 @@ import org.duckdns.bidbuy.app.offer.exception.OffererNotFoundException;
 import org.duckdns.bidbuy.app.review.exception.ReviewDeleteFailException;
 import org.duckdns.bidbuy.app.review.exception.ReviewDuplicateException;
 import org.duckdns.bidbuy.app.review.exception.ReviewNotFoundException;
+import org.duckdns.bidbuy.app.search.exception.SearchTimeoutException;
 import org.duckdns.bidbuy.app.user.exception.ForbiddenException;
 import org.duckdns.bidbuy.app.user.exception.NotLoggedInException;
 import org.duckdns.bidbuy.app.user.exception.PasswordLengthException;
@@ -173,4 +174,20 @@ public class CustomizedResponseEntityExceptionHandler extends ResponseEntityExce
 
         return new ResponseEntity<>(exceptionResponse, HttpStatus.CONFLICT);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public final ResponseEntity<Object> invalidCursorException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse =
+                new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(SearchTimeoutException.class)
+    public final ResponseEntity<Object> searchTimeoutException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse =
+                new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,12 @@
+package org.duckdns.bidbuy.global.error;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("잘못된 커서입니다: " + cursor);
+    }
+}
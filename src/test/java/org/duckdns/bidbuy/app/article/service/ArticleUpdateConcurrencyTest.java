@@ -0,0 +1,155 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
+import org.duckdns.bidbuy.app.article.domain.Article;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.dto.ArticleRequest;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.article.repository.LikeArticleRepository;
+import org.duckdns.bidbuy.app.offer.service.OfferService;
+import org.duckdns.bidbuy.app.region.service.RegionService;
+import org.duckdns.bidbuy.app.user.domain.User;
+import org.duckdns.bidbuy.app.user.repository.UserRepository;
+import org.duckdns.bidbuy.app.user.service.UserStatsService;
+import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 수정이 찜과 동시에 실행돼도 수정 저장이 읽어 둔 like_count 로 덮어쓰지 않아야 한다
+// 수정과 찜이 각자 트랜잭션에서 커밋되도록 테스트 트랜잭션은 쓰지 않고 직접 정리함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ArticleService.class, LikeArticleService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArticleUpdateConcurrencyTest {
+
+    private static final int USERS = 16;
+    private static final int EDITS = 30;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private LikeArticleService likeArticleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private LikeArticleRepository likeArticleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private ImageUploadService imageUploadService;
+
+    @MockBean
+    private OfferService offerService;
+
+    @MockBean
+    private RegionService regionService;
+
+    @MockBean
+    private ViewCountService viewCountService;
+
+    @MockBean
+    private UserStatsService userStatsService;
+
+    @MockBean
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ArticleDetailCache articleDetailCache;
+
+    @MockBean
+    private ImageDerivativeService imageDerivativeService;
+
+    @MockBean
+    private ImageDeleteOutboxService imageDeleteOutboxService;
+
+    private User writer;
+    private Long articleId;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder().username("writer").build());
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder().username("user" + i).build()).getId());
+        }
+        articleId = articleRepository.save(Article.builder()
+                .writer(writer)
+                .title("수정 테스트")
+                .price(1000)
+                .likeCount(0L)
+                .viewCount(0L)
+                .tradeStatus(TradeStatus.ON_SALE)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeArticleRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void likeCountSurvivesConcurrentEdits() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(USERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            futures.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(new CustomUserDetails(writer), null, List.of()));
+                start.await();
+                for (int i = 0; i < EDITS; i++) {
+                    articleService.updateArticle(articleId, ArticleRequest.builder().title("수정 " + i).build(), null);
+                }
+                return null;
+            }));
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    likeArticleService.toggle(articleId, userId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Article article = articleRepository.findById(articleId).orElseThrow();
+        long rows = likeArticleRepository.findUserIdsByArticleId(articleId).size();
+        assertThat(rows).isEqualTo(USERS);
+        assertThat(article.getLikeCount()).isEqualTo(rows);
+        assertThat(article.getTitle()).isEqualTo("수정 " + (EDITS - 1));
+    }
+}
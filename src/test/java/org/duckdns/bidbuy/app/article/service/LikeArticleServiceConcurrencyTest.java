@@ -0,0 +1,146 @@
+package org.duckdns.bidbuy.app.article.service;
+
+import org.duckdns.bidbuy.app.article.cache.ArticleDetailCache;
+import org.duckdns.bidbuy.app.article.domain.Article;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.article.repository.ArticleRepository;
+import org.duckdns.bidbuy.app.article.repository.LikeArticleRepository;
+import org.duckdns.bidbuy.app.user.domain.User;
+import org.duckdns.bidbuy.app.user.repository.UserRepository;
+import org.duckdns.bidbuy.app.user.service.UserStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 찜 토글을 동시에 여러 번 실행해도 article.like_count 는 like_article 행 수와 같아야 한다
+// 토글마다 자기 트랜잭션에서 커밋되도록 테스트 트랜잭션은 쓰지 않고 직접 정리함
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(LikeArticleService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikeArticleServiceConcurrencyTest {
+
+    private static final int USERS = 16;
+    private static final int TOGGLES_PER_USER = 5;
+
+    @Autowired
+    private LikeArticleService likeArticleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private LikeArticleRepository likeArticleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private UserStatsService userStatsService;
+
+    @MockBean
+    private ArticleDetailCache articleDetailCache;
+
+    private Long articleId;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.save(User.builder().username("writer").build());
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder().username("user" + i).build()).getId());
+        }
+        articleId = articleRepository.save(Article.builder()
+                .writer(writer)
+                .title("찜 테스트")
+                .price(1000)
+                .likeCount(0L)
+                .viewCount(0L)
+                .tradeStatus(TradeStatus.ON_SALE)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeArticleRepository.deleteAllInBatch();
+        articleRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void likeCountMatchesRowsAfterParallelToggles() throws Exception {
+        // 유저마다 홀수 번 토글하므로 모두 찜한 상태로 끝난다
+        runInParallel(1);
+
+        long rows = likeArticleRepository.findUserIdsByArticleId(articleId).size();
+        assertThat(rows).isEqualTo(USERS);
+        assertThat(likeCount()).isEqualTo(rows);
+    }
+
+    @Test
+    void likeCountMatchesRowsWhenSameUserTogglesConcurrently() throws Exception {
+        // 같은 유저가 두 스레드에서 동시에 토글, 최종 찜 여부는 정해지지 않지만 개수는 행 수와 같아야 한다
+        int succeeded = runInParallel(2);
+
+        assertThat(succeeded).isPositive();
+        long rows = likeArticleRepository.findUserIdsByArticleId(articleId).size();
+        assertThat(likeCount()).isEqualTo(rows);
+    }
+
+    // 실패한 토글은 롤백되므로 개수 검증에는 영향이 없음, 성공한 토글 수를 반환
+    private int runInParallel(int threadsPerUser) throws Exception {
+        int threads = USERS * threadsPerUser;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                Long userId = userIds.get(t % USERS);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TOGGLES_PER_USER; i++) {
+                        try {
+                            likeArticleService.toggle(articleId, userId);
+                            succeeded.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            if (threadsPerUser == 1) {
+                                throw e;
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return succeeded.get();
+    }
+
+    private long likeCount() {
+        return articleRepository.findById(articleId).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,79 @@
+package org.duckdns.bidbuy.app.offer.repository;
+
+import jakarta.persistence.EntityManager;
+import org.duckdns.bidbuy.app.article.domain.Article;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.offer.domain.Offer;
+import org.duckdns.bidbuy.app.offer.dto.OfferResponse;
+import org.duckdns.bidbuy.app.user.domain.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글의 제안 목록은 제안자 정보까지 한 번의 SELECT 로 끝나야 한다 (제안마다 유저를 지연 로딩하지 않음)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class OfferRepositoryQueryCountTest {
+
+    private static final int OFFERERS = 5;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long articleId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User writer = User.builder().username("writer").build();
+        em.persist(writer);
+        Article article = Article.builder()
+                .writer(writer)
+                .title("제안 테스트")
+                .price(100000)
+                .likeCount(0L)
+                .viewCount(0L)
+                .tradeStatus(TradeStatus.ON_SALE)
+                .build();
+        em.persist(article);
+
+        // 가격이 내려가는 순서로 저장해서 정렬이 DB 에서 되는지도 확인
+        for (int i = 0; i < OFFERERS; i++) {
+            User offerer = User.builder().username("offerer" + i).addr1("서울특별시").addr2("마포구").build();
+            em.persist(offerer);
+            em.persist(Offer.builder()
+                    .article(article)
+                    .offerer(offerer)
+                    .price(90000 - i * 1000)
+                    .isSelected(false)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+        articleId = article.getId();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void offerListIsOneStatement() {
+        List<OfferResponse> offers = offerRepository.findOfferResponsesByArticleId(articleId);
+
+        assertThat(offers).hasSize(OFFERERS);
+        assertThat(offers).extracting(OfferResponse::getOfferPrice).isSorted();
+        assertThat(offers).allSatisfy(offer -> assertThat(offer.getOffererUsername()).startsWith("offerer"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,125 @@
+package org.duckdns.bidbuy.app.search.repository;
+
+import jakarta.persistence.EntityManager;
+import org.duckdns.bidbuy.app.article.domain.Article;
+import org.duckdns.bidbuy.app.article.domain.Category;
+import org.duckdns.bidbuy.app.article.domain.ProductImage;
+import org.duckdns.bidbuy.app.article.domain.TradeMethod;
+import org.duckdns.bidbuy.app.article.domain.TradeStatus;
+import org.duckdns.bidbuy.app.search.dto.SearchArticleResponse;
+import org.duckdns.bidbuy.app.search.index.BigramArticleSearchIndex;
+import org.duckdns.bidbuy.app.user.domain.User;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 목록 projection 은 썸네일까지 한 번의 SELECT 로 끝나야 한다 (게시글별 추가 조회 없음)
+// 페이지 크기와 게시글/이미지 수를 바꿔도 문장 수가 같아야 N+1 이 없다고 볼 수 있음
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SearchRepository.class, BigramArticleSearchIndex.class})
+class SearchRepositoryQueryCountTest {
+
+    private static final long STATEMENTS_PER_PAGE = 1;
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    @ParameterizedTest
+    @CsvSource({"3, 1", "20, 4"})
+    void offsetPageIsOneStatement(int pageSize, int imagesPerArticle) {
+        seed(pageSize + 2, imagesPerArticle);
+
+        List<SearchArticleResponse> page = searchRepository.search(null, null, null, "아이폰", "lowPrice", 1, pageSize);
+
+        assertThat(page).hasSize(pageSize);
+        assertThat(page).allSatisfy(article -> {
+            assertThat(article.getThumbnailUrl()).isNotNull();
+            assertThat(article.getImageId()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"3, 1", "20, 4"})
+    void keysetPageIsOneStatement(int pageSize, int imagesPerArticle) {
+        seed(pageSize + 2, imagesPerArticle);
+        SearchOrder order = SearchOrder.LOW_PRICE;
+        KeysetCursor cursor = new KeysetCursor(order.getOrderBy(), "10000", Long.MAX_VALUE);
+
+        List<SearchArticleResponse> page = searchRepository.searchAfter(null, null, null, null, order, cursor, pageSize);
+
+        assertThat(page).extracting(SearchArticleResponse::getPrice)
+                .containsExactlyElementsOf(IntStream.rangeClosed(2, pageSize + 1).mapToObj(i -> i * 10000).toList());
+        assertThat(page).allSatisfy(article -> assertThat(article.getThumbnailUrl()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        seed(25, 3);
+
+        long small = countStatements(() -> searchRepository.search(null, null, null, "아이폰", "lowPrice", 1, 3));
+        long large = countStatements(() -> searchRepository.search(null, null, null, "아이폰", "lowPrice", 1, 20));
+
+        assertThat(large).isEqualTo(small).isEqualTo(STATEMENTS_PER_PAGE);
+    }
+
+    private long countStatements(Supplier<List<SearchArticleResponse>> query) {
+        em.clear();
+        statistics.clear();
+        query.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 가격은 10000 단위로 오름차순, 게시글마다 첫 장이 대표 이미지 (imageId)
+    private void seed(int articles, int imagesPerArticle) {
+        User writer = User.builder().username("writer").addr1("서울특별시").addr2("강남구").build();
+        em.persist(writer);
+        for (int i = 0; i < articles; i++) {
+            Article article = Article.builder()
+                    .writer(writer)
+                    .title("아이폰 " + i)
+                    .content("내용")
+                    .price(10000 * (i + 1))
+                    .viewCount(0L)
+                    .likeCount(0L)
+                    .addr1("서울특별시")
+                    .addr2("강남구")
+                    .category(Category.HEALTH_EQUIPMENT)
+                    .tradeMethod(TradeMethod.FACE_TO_FACE)
+                    .tradeStatus(TradeStatus.ON_SALE)
+                    .build();
+            em.persist(article);
+            ProductImage cover = ProductImage.builder().article(article).imageUrl(i + "_0.jpg").thumbnailUrl("s_" + i + "_0.jpg").build();
+            em.persist(cover);
+            for (int j = 1; j < imagesPerArticle; j++) {
+                em.persist(ProductImage.builder().article(article).imageUrl(i + "_" + j + ".jpg").build());
+            }
+            article.updateCover(cover.getThumbnailUrl(), cover.getId());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+}
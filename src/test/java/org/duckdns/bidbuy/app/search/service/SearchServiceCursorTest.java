@@ -0,0 +1,70 @@
+package org.duckdns.bidbuy.app.search.service;
+
+import org.duckdns.bidbuy.app.search.repository.SearchRepository;
+import org.duckdns.bidbuy.global.common.paging.KeysetCursor;
+import org.duckdns.bidbuy.global.error.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+// 잘못된 커서는 쿼리를 보내기 전에 InvalidCursorException(400) 으로 거절되어야 한다
+@ExtendWith(MockitoExtension.class)
+class SearchServiceCursorTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    @Mock
+    private ThreadPoolTaskExecutor searchExecutor;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @ParameterizedTest
+    @CsvSource({
+            "latest, latest|abc|5",
+            "latest, latest|2024-13-45T00:00:00|5",
+            "lowPrice, lowPrice|1e3|5",
+            "highPrice, highPrice|99999999999|5",
+            "hot, hot|many|5"
+    })
+    void malformedSortValueIsBadRequest(String orderBy, String raw) {
+        String cursor = encode(raw);
+
+        assertThatThrownBy(() -> searchService.searchPage(null, null, null, null, orderBy, 1, 20, cursor, null))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(searchRepository, searchExecutor);
+    }
+
+    @Test
+    void cursorForAnotherOrderIsBadRequest() {
+        String cursor = new KeysetCursor("lowPrice", "1000", 5L).encode();
+
+        assertThatThrownBy(() -> searchService.searchPage(null, null, null, null, "latest", 1, 20, cursor, null))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(searchRepository, searchExecutor);
+    }
+
+    @Test
+    void malformedIdIsBadRequest() {
+        String cursor = encode("latest|2024-01-01T00:00|abc");
+
+        assertThatThrownBy(() -> searchService.searchPage(null, null, null, null, "latest", 1, 20, cursor, null))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package org.duckdns.bidbuy.global.auth.jwt;
+
+import org.duckdns.bidbuy.app.user.domain.User;
+import org.duckdns.bidbuy.global.auth.domain.CustomUserDetails;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가득 차면 가장 먼저 만료될 토큰부터 비우고, 로그아웃은 그 유저의 토큰만 지워야 한다
+class JWTTokenCacheTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Test
+    void overflowEvictsEarliestExpiryFirst() {
+        JWTTokenCache cache = new JWTTokenCache(10);
+        long now = System.currentTimeMillis();
+        // 나중에 넣은 토큰일수록 먼저 만료
+        for (int i = 0; i < 10; i++) {
+            cache.put("token" + i, userDetails(1L), new Date(now + (10 - i) * HOUR));
+        }
+
+        cache.put("token10", userDetails(1L), new Date(now + 20 * HOUR));
+
+        // 10% (1개) 를 비우고 넣음, 가장 먼저 만료되는 token9 가 빠짐
+        assertThat(cache.get("token9")).isNull();
+        assertThat(cache.get("token0")).isNotNull();
+        assertThat(cache.get("token10")).isNotNull();
+    }
+
+    @Test
+    void evictUserRemovesOnlyThatUsersTokens() {
+        JWTTokenCache cache = new JWTTokenCache(100);
+        Date expiration = new Date(System.currentTimeMillis() + HOUR);
+        cache.put("a1", userDetails(1L), expiration);
+        cache.put("a2", userDetails(1L), expiration);
+        cache.put("b1", userDetails(2L), expiration);
+
+        cache.evictUser(1L);
+
+        assertThat(cache.get("a1")).isNull();
+        assertThat(cache.get("a2")).isNull();
+        assertThat(cache.get("b1")).isNotNull();
+        assertThat(cache.getStats().get("size")).isEqualTo(1L);
+    }
+
+    @Test
+    void evictExpiredKeepsLiveTokens() {
+        JWTTokenCache cache = new JWTTokenCache(100);
+        long now = System.currentTimeMillis();
+        cache.put("expired", userDetails(1L), new Date(now - 1));
+        cache.put("live", userDetails(1L), new Date(now + HOUR));
+
+        cache.evictExpired();
+
+        assertThat(cache.getStats().get("size")).isEqualTo(1L);
+        assertThat(cache.get("live")).isNotNull();
+    }
+
+    private static CustomUserDetails userDetails(Long userId) {
+        return new CustomUserDetails(User.builder().id(userId).username("user" + userId).build());
+    }
+}